@@ -0,0 +1,382 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@code CommandIndex} of all classes annotated with {@code @IndexedCommand}.
+ * Checks at compile time, that the classes can be instantiated by the index, that no two
+ * commands have the same invokes and that the {@code @PermissionRequired} and
+ * {@code @OnlyAllowedSenders} annotations of their handle methods are not empty. The commands
+ * are sorted like the {@code CommandHandler} sorts them, so registering the index does not
+ * need to sort them again, and their invokes are checked against the annotation, when they
+ * are created.
+ *
+ * <p>The index is generated in the round the annotated classes are found in. If a later round
+ * finds more of them, e.g. generated by another processor, they get an index of their own.
+ * All indexes are registered as services of {@code CommandIndex} in the last round.
+ *
+ * <p>The fully qualified name of the generated class can be set by the option
+ * {@value #INDEX_OPTION}. By default it is {@value #INDEX_SIMPLE_NAME} in the package
+ * containing all indexed commands, so the indexes of different projects do not clash.
+ */
+@SupportedAnnotationTypes(CommandIndexProcessor.INDEXED_COMMAND)
+@SupportedOptions(CommandIndexProcessor.INDEX_OPTION)
+public class CommandIndexProcessor extends AbstractProcessor {
+
+  static final String INDEX_OPTION = "alphacommandcore.index";
+  static final String INDEXED_COMMAND =
+          "de.alphaconqueror.alphacommandcore.commandhandling.annotations.IndexedCommand";
+
+  static final String INDEX_SIMPLE_NAME = "GeneratedCommandIndex";
+
+  private static final String COMMAND_HANDLING = "de.alphaconqueror.alphacommandcore"
+          + ".commandhandling";
+  private static final String COMMAND_INDEX = COMMAND_HANDLING + ".CommandIndex";
+  private static final String COMMAND = COMMAND_HANDLING + ".ICommand";
+  private static final String PERMISSION_REQUIRED =
+          COMMAND_HANDLING + ".annotations.PermissionRequired";
+  private static final String ONLY_ALLOWED_SENDERS =
+          COMMAND_HANDLING + ".annotations.OnlyAllowedSenders";
+  private static final int COMMANDS_PER_METHOD = 1000;
+
+  private final List<Entry> entries = new ArrayList<>();
+  private final Map<String, Entry> entriesByInvokes = new HashMap<>();
+  private final List<String> indexes = new ArrayList<>();
+  private String indexName;
+  private boolean failed;
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations,
+          final RoundEnvironment roundEnv) {
+    final TypeElement indexedCommand = this.processingEnv.getElementUtils()
+            .getTypeElement(INDEXED_COMMAND);
+
+    final List<Entry> roundEntries = new ArrayList<>();
+
+    if (indexedCommand != null) {
+      for (final Element element : roundEnv.getElementsAnnotatedWith(indexedCommand)) {
+        addEntry((TypeElement) element, roundEntries);
+      }
+    }
+
+    // sources created in the last round are not compiled, so only the services are left to it
+    if (!this.failed && !roundEntries.isEmpty()) {
+      writeIndex(roundEntries);
+    }
+
+    if (roundEnv.processingOver() && !this.failed && !this.indexes.isEmpty()) {
+      writeServices();
+    }
+
+    return true;
+  }
+
+  private void addEntry(final TypeElement element, final List<Entry> roundEntries) {
+    if (!checkInstantiable(element)) {
+      return;
+    }
+
+    final List<String> invokes = stringValues(annotation(element, INDEXED_COMMAND), "invokes");
+
+    if (invokes.isEmpty()) {
+      error(element, "An indexed command needs at least one invoke.");
+      return;
+    }
+
+    final Entry entry = new Entry(element, invokes);
+    final Entry duplicate = this.entriesByInvokes.putIfAbsent(String.join(" ", invokes), entry);
+
+    if (duplicate != null) {
+      error(element, "Duplicate invokes '" + String.join(" ", invokes) + "', already used by "
+              + duplicate.className + ".");
+      return;
+    }
+
+    checkHandleMethods(element);
+    this.entries.add(entry);
+    roundEntries.add(entry);
+  }
+
+  private boolean checkInstantiable(final TypeElement element) {
+    final TypeMirror command = this.processingEnv.getElementUtils().getTypeElement(COMMAND)
+            .asType();
+
+    if (element.getKind() != ElementKind.CLASS
+            || element.getModifiers().contains(Modifier.ABSTRACT)
+            || !this.processingEnv.getTypeUtils().isAssignable(element.asType(), command)) {
+      error(element, "An indexed command has to be a non-abstract class implementing "
+              + "ICommand.");
+      return false;
+    }
+
+    for (Element enclosing = element; enclosing instanceof TypeElement;
+            enclosing = enclosing.getEnclosingElement()) {
+      final TypeElement type = (TypeElement) enclosing;
+
+      if (!type.getModifiers().contains(Modifier.PUBLIC)
+              || type.getNestingKind() == NestingKind.MEMBER
+              && !type.getModifiers().contains(Modifier.STATIC)) {
+        error(element, "An indexed command has to be a public top level or public static "
+                + "nested class.");
+        return false;
+      }
+    }
+
+    for (final ExecutableElement constructor
+            : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+      if (constructor.getParameters().isEmpty()
+              && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+        return true;
+      }
+    }
+
+    error(element, "An indexed command needs a public constructor without parameters.");
+    return false;
+  }
+
+  private void checkHandleMethods(final TypeElement element) {
+    for (final ExecutableElement method
+            : ElementFilter.methodsIn(element.getEnclosedElements())) {
+      if (!method.getSimpleName().contentEquals("handle")) {
+        continue;
+      }
+
+      final AnnotationMirror permissionRequired = annotation(method, PERMISSION_REQUIRED);
+      final AnnotationMirror onlyAllowedSenders = annotation(method, ONLY_ALLOWED_SENDERS);
+
+      if (permissionRequired != null && stringValues(permissionRequired, "permission").stream()
+              .anyMatch(String::isBlank)) {
+        error(method, "The required permission must not be blank.");
+      }
+
+      if (onlyAllowedSenders != null
+              && stringValues(onlyAllowedSenders, "identifiers").isEmpty()) {
+        error(method, "At least one allowed sender identifier is needed.");
+      }
+    }
+  }
+
+  private void writeIndex(final List<Entry> roundEntries) {
+    if (this.indexName == null) {
+      this.indexName = this.processingEnv.getOptions().get(INDEX_OPTION);
+
+      if (this.indexName == null) {
+        final String packageName = commonPackage(roundEntries);
+
+        if (packageName.isEmpty()) {
+          error(null, "The indexed commands do not share a package, so the name of the index "
+                  + "has to be set by the option -A" + INDEX_OPTION + "=<name>.");
+          return;
+        }
+
+        this.indexName = packageName + "." + INDEX_SIMPLE_NAME;
+      }
+    }
+
+    final String index = this.indexes.isEmpty() ? this.indexName
+            : this.indexName + (this.indexes.size() + 1);
+    final int separator = index.lastIndexOf('.');
+
+    roundEntries.sort(Comparator.comparingInt((Entry entry) -> entry.invokes.size())
+            .reversed().thenComparing(entry -> entry.className));
+
+    try (PrintWriter writer = new PrintWriter(this.processingEnv.getFiler()
+            .createSourceFile(index, originatingElements(roundEntries)).openWriter())) {
+      writeSource(writer, separator < 0 ? null : index.substring(0, separator),
+              index.substring(separator + 1), roundEntries);
+    } catch (final IOException e) {
+      error(null, "Could not write " + index + ": " + e.getMessage());
+      return;
+    }
+
+    this.indexes.add(index);
+  }
+
+  private void writeServices() {
+    try (Writer writer = this.processingEnv.getFiler().createResource(
+            StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + COMMAND_INDEX,
+            originatingElements(this.entries)).openWriter()) {
+      for (final String index : this.indexes) {
+        writer.write(index + "\n");
+      }
+    } catch (final IOException e) {
+      error(null, "Could not register " + String.join(", ", this.indexes) + ": "
+              + e.getMessage());
+    }
+  }
+
+  private String commonPackage(final List<Entry> entries) {
+    String commonPackage = null;
+
+    for (final Entry entry : entries) {
+      final String packageName = this.processingEnv.getElementUtils()
+              .getPackageOf(entry.element).getQualifiedName().toString();
+
+      if (commonPackage == null) {
+        commonPackage = packageName;
+        continue;
+      }
+
+      while (!packageName.equals(commonPackage)
+              && !packageName.startsWith(commonPackage + ".")) {
+        final int separator = commonPackage.lastIndexOf('.');
+
+        commonPackage = separator < 0 ? "" : commonPackage.substring(0, separator);
+      }
+    }
+
+    return commonPackage == null ? "" : commonPackage;
+  }
+
+  private static Element[] originatingElements(final List<Entry> entries) {
+    final Element[] originatingElements = new Element[entries.size()];
+
+    for (int i = 0; i < originatingElements.length; i++) {
+      originatingElements[i] = entries.get(i).element;
+    }
+
+    return originatingElements;
+  }
+
+  private void writeSource(final PrintWriter writer, final String packageName,
+          final String simpleName, final List<Entry> entries) {
+    if (packageName != null) {
+      writer.println("package " + packageName + ";");
+      writer.println();
+    }
+
+    writer.println("@javax.annotation.processing.Generated(\"" + getClass().getName()
+            + "\")");
+    writer.println("public final class " + simpleName + " implements " + COMMAND_INDEX
+            + " {");
+    writer.println();
+    writer.println("  @Override");
+    writer.println("  public java.util.List<" + COMMAND + "> createCommands() {");
+    writer.println("    final java.util.List<" + COMMAND + "> commands = new java.util"
+            + ".ArrayList<>(" + entries.size() + ");");
+    writer.println();
+
+    for (int i = 0; i * COMMANDS_PER_METHOD < entries.size(); i++) {
+      writer.println("    addCommands" + i + "(commands);");
+    }
+
+    writer.println("    return commands;");
+    writer.println("  }");
+
+    for (int i = 0; i * COMMANDS_PER_METHOD < entries.size(); i++) {
+      writer.println();
+      writer.println("  private static void addCommands" + i + "(final java.util.List<"
+              + COMMAND + "> commands) {");
+
+      for (final Entry entry : entries.subList(i * COMMANDS_PER_METHOD,
+              Math.min((i + 1) * COMMANDS_PER_METHOD, entries.size()))) {
+        final StringBuilder invokes = new StringBuilder();
+
+        for (final String invoke : entry.invokes) {
+          invokes.append(", ").append(this.processingEnv.getElementUtils()
+                  .getConstantExpression(invoke));
+        }
+
+        writer.println("    commands.add(" + COMMAND_INDEX + ".checkInvokes(new "
+                + entry.className + "()" + invokes + "));");
+      }
+
+      writer.println("  }");
+    }
+
+    writer.println("}");
+  }
+
+  private static AnnotationMirror annotation(final Element element, final String name) {
+    for (final AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+      final TypeElement type = (TypeElement) annotationMirror.getAnnotationType().asElement();
+
+      if (type.getQualifiedName().contentEquals(name)) {
+        return annotationMirror;
+      }
+    }
+
+    return null;
+  }
+
+  private static List<String> stringValues(final AnnotationMirror annotationMirror,
+          final String name) {
+    final List<String> values = new ArrayList<>();
+
+    for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+            : annotationMirror.getElementValues().entrySet()) {
+      if (!entry.getKey().getSimpleName().contentEquals(name)) {
+        continue;
+      }
+
+      final Object value = entry.getValue().getValue();
+
+      if (value instanceof List) {
+        for (final Object element : (List<?>) value) {
+          values.add((String) ((AnnotationValue) element).getValue());
+        }
+      } else {
+        values.add((String) value);
+      }
+    }
+
+    return values;
+  }
+
+  private void error(final Element element, final String message) {
+    this.failed = true;
+    this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+  /**
+   * An indexed command found in the sources.
+   */
+  private static final class Entry {
+
+    private final TypeElement element;
+    private final String className;
+    private final List<String> invokes;
+
+    private Entry(final TypeElement element, final List<String> invokes) {
+      this.element = element;
+      this.className = element.getQualifiedName().toString();
+      this.invokes = invokes;
+    }
+  }
+}
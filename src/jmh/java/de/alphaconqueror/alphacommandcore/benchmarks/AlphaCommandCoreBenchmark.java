@@ -0,0 +1,72 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.benchmarks;
+
+import de.alphaconqueror.alphacommandcore.AlphaCommandCore;
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@link AlphaCommandCore#parse(String, ICommandSender)} with many
+ * {@link CommandHandler}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AlphaCommandCoreBenchmark {
+
+  @Param({"1", "50"})
+  public int handlerCount;
+
+  private final List<CommandHandler> commandHandlers = new ArrayList<>();
+  private ICommandSender sender;
+  private String hitMessage;
+
+  @Setup
+  public void setup() {
+    this.sender = new BenchmarkCommands.Sender(BenchmarkCommands.SENDER_IDENTIFIER, true);
+
+    for (int i = 0; i < this.handlerCount; i++) {
+      final CommandHandler commandHandler = new CommandHandler("!" + i + "/");
+
+      commandHandler.registerCommand(new BenchmarkCommands.PlainCommand("command"));
+      AlphaCommandCore.addCommandHandler(commandHandler);
+      this.commandHandlers.add(commandHandler);
+    }
+
+    this.hitMessage = "!" + (this.handlerCount - 1) + "/command arg1 arg2";
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.commandHandlers.forEach(AlphaCommandCore::removeCommandHandler);
+    this.commandHandlers.clear();
+  }
+
+  @Benchmark
+  public ICommandResult hit() {
+    return AlphaCommandCore.parse(this.hitMessage, this.sender);
+  }
+
+  @Benchmark
+  public ICommandResult noCommand() {
+    return AlphaCommandCore.parse("just a chat line without any command", this.sender);
+  }
+}
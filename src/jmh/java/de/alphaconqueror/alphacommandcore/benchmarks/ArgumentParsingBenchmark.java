@@ -0,0 +1,66 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.benchmarks;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ArgumentSchema;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ArgumentType;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ParsedArguments;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures parsing integer arguments by an {@link ArgumentSchema} against parsing them by hand
+ * with {@link Integer#parseInt(String)}, catching the exception of malformed input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ArgumentParsingBenchmark {
+
+  @Param({"true", "false"})
+  public boolean valid;
+
+  private ArgumentSchema schema;
+  private String[] args;
+
+  @Setup
+  public void setup() {
+    this.schema = ArgumentSchema.builder()
+            .required("x", ArgumentType.INTEGER)
+            .required("y", ArgumentType.INTEGER)
+            .required("z", ArgumentType.INTEGER).range(0, 1_000_000)
+            .build();
+    this.args = new String[] {"42", this.valid ? "-17" : "-1x7", "100000"};
+  }
+
+  @Benchmark
+  public ParsedArguments schema() {
+    return this.schema.parse(this.args);
+  }
+
+  @Benchmark
+  public int[] handRolled() {
+    final int[] values = new int[this.args.length];
+
+    try {
+      for (int i = 0; i < values.length; i++) {
+        values[i] = Integer.parseInt(this.args[i]);
+      }
+    } catch (final NumberFormatException e) {
+      return null;
+    }
+
+    return values[2] >= 0 && values[2] <= 1_000_000 ? values : null;
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.benchmarks;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the {@code @OnlyAllowedSenders} and {@code @PermissionRequired} paths against a
+ * command without annotations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AuthorizationBenchmark {
+
+  private CommandHandler commandHandler;
+  private ICommandSender legalSender;
+  private ICommandSender illegalSender;
+
+  @Setup
+  public void setup() {
+    this.commandHandler = new CommandHandler("/");
+    this.legalSender = new BenchmarkCommands.Sender(BenchmarkCommands.SENDER_IDENTIFIER, true);
+    this.illegalSender = new BenchmarkCommands.Sender("other", false);
+    this.commandHandler.registerCommand(new BenchmarkCommands.PlainCommand("plain"));
+    this.commandHandler.registerCommand(new BenchmarkCommands.PermissionCommand("permission"));
+    this.commandHandler.registerCommand(new BenchmarkCommands.AllowedSendersCommand("allowed"));
+  }
+
+  @Benchmark
+  public ICommandResult plain() {
+    return this.commandHandler.handle("/plain arg", this.legalSender);
+  }
+
+  @Benchmark
+  public ICommandResult permissionGranted() {
+    return this.commandHandler.handle("/permission arg", this.legalSender);
+  }
+
+  @Benchmark
+  public ICommandResult permissionDenied() {
+    return this.commandHandler.handle("/permission arg", this.illegalSender);
+  }
+
+  @Benchmark
+  public ICommandResult allowedSender() {
+    return this.commandHandler.handle("/allowed arg", this.legalSender);
+  }
+
+  @Benchmark
+  public ICommandResult illegalSender() {
+    return this.commandHandler.handle("/allowed arg", this.illegalSender);
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.benchmarks;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.OnlyAllowedSenders;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.PermissionRequired;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Subcommand;
+
+/**
+ * The {@link ICommand}s and {@link ICommandSender}s shared by the benchmarks.
+ */
+public final class BenchmarkCommands {
+
+  public static final String PERMISSION = "benchmark.permission";
+  public static final String SENDER_IDENTIFIER = "benchmark";
+
+  private static final ICommandResult OKAY = new ICommandResult.Okay();
+
+  private BenchmarkCommands() { }
+
+  /**
+   * Creates the invokes of a command with a given depth.
+   *
+   * @param index The index of the command, making its first invoke unique.
+   * @param depth The number of invokes.
+   * @return The invokes.
+   */
+  public static String[] invokes(final int index, final int depth) {
+    final String[] invokes = new String[depth];
+
+    invokes[0] = "command" + index;
+
+    for (int i = 1; i < depth; i++) {
+      invokes[i] = "sub" + i;
+    }
+
+    return invokes;
+  }
+
+  /**
+   * A command without any annotations.
+   */
+  public static class PlainCommand implements ICommand {
+
+    private final String[] invokes;
+
+    public PlainCommand(final String... invokes) {
+      this.invokes = invokes;
+    }
+
+    @Override
+    public ICommandResult handle(final ICommandSender sender, final String[] args) {
+      return OKAY;
+    }
+
+    @Override
+    public String[] getInvokes() {
+      return this.invokes.clone();
+    }
+
+    @Override
+    public String[] getArguments() {
+      return new String[0];
+    }
+  }
+
+  /**
+   * A command requiring {@link #PERMISSION}.
+   */
+  public static class PermissionCommand extends PlainCommand {
+
+    public PermissionCommand(final String... invokes) {
+      super(invokes);
+    }
+
+    @Override
+    @PermissionRequired(permission = PERMISSION)
+    public ICommandResult handle(final ICommandSender sender, final String[] args) {
+      return OKAY;
+    }
+  }
+
+  /**
+   * A command only allowed for senders identified by {@link #SENDER_IDENTIFIER}.
+   */
+  public static class AllowedSendersCommand extends PlainCommand {
+
+    public AllowedSendersCommand(final String... invokes) {
+      super(invokes);
+    }
+
+    @Override
+    @OnlyAllowedSenders(identifiers = SENDER_IDENTIFIER)
+    public ICommandResult handle(final ICommandSender sender, final String[] args) {
+      return OKAY;
+    }
+  }
+
+  /**
+   * The subcommands equivalent to {@link PlainCommand} and {@link PermissionCommand}.
+   */
+  public static class Subcommands {
+
+    @Subcommand(invokes = "plain")
+    public ICommandResult plain(final ICommandSender sender, final String[] args) {
+      return OKAY;
+    }
+
+    @Subcommand(invokes = "permission")
+    @PermissionRequired(permission = PERMISSION)
+    public ICommandResult permission(final ICommandSender sender, final String[] args) {
+      return OKAY;
+    }
+  }
+
+  /**
+   * A sender with a fixed identifier and a fixed permission answer.
+   */
+  public static class Sender implements ICommandSender {
+
+    private final String identifier;
+    private final boolean permitted;
+
+    public Sender(final String identifier, final boolean permitted) {
+      this.identifier = identifier;
+      this.permitted = permitted;
+    }
+
+    @Override
+    public String getIdentifier() {
+      return this.identifier;
+    }
+
+    @Override
+    public boolean hasPermission(final String permission) {
+      return this.permitted;
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.benchmarks;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link CommandHandler#handle(String, ICommandSender)} for small and huge command
+ * sets and shallow and deep invokes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CommandHandlerBenchmark {
+
+  @Param({"10", "5000"})
+  public int commandCount;
+
+  @Param({"1", "8"})
+  public int invokeDepth;
+
+  private CommandHandler commandHandler;
+  private ICommandSender sender;
+  private String hitMessage;
+  private String notFoundMessage;
+  private String noCommandMessage;
+
+  @Setup
+  public void setup() {
+    this.commandHandler = new CommandHandler("/");
+    this.sender = new BenchmarkCommands.Sender(BenchmarkCommands.SENDER_IDENTIFIER, true);
+
+    for (int i = 0; i < this.commandCount; i++) {
+      this.commandHandler.registerCommand(new BenchmarkCommands.PlainCommand(
+              BenchmarkCommands.invokes(i, this.invokeDepth)));
+    }
+
+    this.hitMessage = "/" + String.join(" ", BenchmarkCommands
+            .invokes(this.commandCount / 2, this.invokeDepth)) + " arg1 arg2";
+    this.notFoundMessage = "/unknown arg1 arg2";
+    this.noCommandMessage = "just a chat line without any command";
+  }
+
+  @Benchmark
+  public ICommandResult hit() {
+    return this.commandHandler.handle(this.hitMessage, this.sender);
+  }
+
+  @Benchmark
+  public ICommandResult commandNotFound() {
+    return this.commandHandler.handle(this.notFoundMessage, this.sender);
+  }
+
+  @Benchmark
+  public ICommandResult noCommand() {
+    return this.commandHandler.handle(this.noCommandMessage, this.sender);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.benchmarks;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures one {@link CommandHandler} shared by several dispatching threads, each with its own
+ * {@link ICommandSender}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class MultiThreadedDispatchBenchmark {
+
+  private static final int COMMAND_COUNT = 1000;
+
+  private CommandHandler commandHandler;
+
+  @Setup
+  public void setup() {
+    this.commandHandler = new CommandHandler("/");
+
+    for (int i = 0; i < COMMAND_COUNT; i++) {
+      this.commandHandler.registerCommand(
+              new BenchmarkCommands.PermissionCommand(BenchmarkCommands.invokes(i, 2)));
+    }
+  }
+
+  @Benchmark
+  public ICommandResult dispatch(final SenderState senderState) {
+    return this.commandHandler.handle(senderState.message, senderState.sender);
+  }
+
+  /**
+   * The sender and message of a single benchmark thread.
+   */
+  @State(Scope.Thread)
+  public static class SenderState {
+
+    private ICommandSender sender;
+    private String message;
+
+    @Setup
+    public void setup() {
+      final long id = Thread.currentThread().getId();
+
+      this.sender = new BenchmarkCommands.Sender("sender" + id, true);
+      this.message = "/" + String.join(" ", BenchmarkCommands
+              .invokes((int) (id % COMMAND_COUNT), 2)) + " arg";
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.benchmarks;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures commands bound from {@code @Subcommand} methods against commands implementing
+ * {@link ICommand}, both called directly and dispatched by a {@link CommandHandler}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SubcommandBenchmark {
+
+  private static final String[] ARGS = new String[]{"arg"};
+
+  private CommandHandler commandHandler;
+  private CommandHandler subcommandHandler;
+  private ICommand command;
+  private ICommand subcommand;
+  private ICommandSender sender;
+
+  @Setup
+  public void setup() {
+    this.commandHandler = new CommandHandler("/");
+    this.subcommandHandler = new CommandHandler("/");
+    this.sender = new BenchmarkCommands.Sender(BenchmarkCommands.SENDER_IDENTIFIER, true);
+    this.command = new BenchmarkCommands.PlainCommand("plain");
+    this.commandHandler.registerCommand(this.command);
+    this.commandHandler.registerCommand(new BenchmarkCommands.PermissionCommand("permission"));
+
+    for (final ICommand subcommand : this.subcommandHandler.registerSubcommands(
+            new BenchmarkCommands.Subcommands())) {
+      if (subcommand.getInvokes()[0].equals("plain")) {
+        this.subcommand = subcommand;
+      }
+    }
+  }
+
+  @Benchmark
+  public ICommandResult directCommand() {
+    return this.command.handle(this.sender, ARGS);
+  }
+
+  @Benchmark
+  public ICommandResult directSubcommand() {
+    return this.subcommand.handle(this.sender, ARGS);
+  }
+
+  @Benchmark
+  public ICommandResult handleCommand() {
+    return this.commandHandler.handle("/plain arg", this.sender);
+  }
+
+  @Benchmark
+  public ICommandResult handleSubcommand() {
+    return this.subcommandHandler.handle("/plain arg", this.sender);
+  }
+
+  @Benchmark
+  public ICommandResult handlePermissionCommand() {
+    return this.commandHandler.handle("/permission arg", this.sender);
+  }
+
+  @Benchmark
+  public ICommandResult handlePermissionSubcommand() {
+    return this.subcommandHandler.handle("/permission arg", this.sender);
+  }
+}
@@ -7,34 +7,114 @@
 package de.alphaconqueror.alphacommandcore;
 
 import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandlerRouter;
 import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
 import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class AlphaCommandCore {
 
   /**
-   * The list of {@link CommandHandler}s reverse sorted after the length of the call symbol.
+   * The router indexing the {@link CommandHandler}s by their call symbol.
    */
-  private static final List<CommandHandler> COMMAND_HANDLERS = new ArrayList<>();
+  private static final CommandHandlerRouter ROUTER = new CommandHandlerRouter();
 
   /**
-   * Parses a given string and its {@link ICommandSender} to the {@link CommandHandler}s
-   * to handle it.
-   * Note: Only handles the first command that matches the call symbol and the invokes.
+   * Parses a given string and its {@link ICommandSender} to the {@link CommandHandler} with
+   * the longest call symbol the message starts with.
+   * Note: Command handlers whose call symbol does not match are not touched.
+   * Safe to be called while command handlers are added or removed.
    *
    * @param message The message to be parsed.
    * @param sender  The sender of the message.
+   * @return The {@link ICommandResult} of the handled command, null, if no command handler's
+   *         call symbol matches the message.
    */
-  public static void parse(final String message, final ICommandSender sender) {
-    for (final CommandHandler commandHandler : COMMAND_HANDLERS) {
-      if (!(commandHandler.handle(message, sender) instanceof ICommandResult.ErrorNoCommand)) {
-        break;
+  public static ICommandResult parse(final String message, final ICommandSender sender) {
+    final CommandHandler commandHandler = ROUTER.route(message);
+
+    return commandHandler == null ? null : commandHandler.handle(message, sender);
+  }
+
+  /**
+   * Parses a given string and its {@link ICommandSender} to the {@link CommandHandler} with
+   * the longest call symbol the message starts with and executes the command asynchronously.
+   *
+   * @param message The message to be parsed.
+   * @param sender  The sender of the message.
+   * @return A future completed with the {@link ICommandResult} of the handled command or with
+   *         null, if no command handler's call symbol matches the message.
+   * @see CommandHandler#handleAsync(String, ICommandSender)
+   */
+  public static CompletableFuture<ICommandResult> parseAsync(final String message,
+          final ICommandSender sender) {
+    final CommandHandler commandHandler = ROUTER.route(message);
+
+    return commandHandler == null ? CompletableFuture.completedFuture(null)
+            : commandHandler.handleAsync(message, sender);
+  }
+
+  /**
+   * Suggests completions of the last argument of a partially typed message by the
+   * {@link CommandHandler} with the longest call symbol the message starts with.
+   *
+   * @param partialMessage The message typed so far.
+   * @param sender         The sender typing the message.
+   * @param limit          The maximum number of completions.
+   * @return The completions in lexicographical order, an empty list, if there are none.
+   * @see CommandHandler#suggest(String, ICommandSender, int)
+   */
+  public static List<String> suggest(final String partialMessage, final ICommandSender sender,
+          final int limit) {
+    final CommandHandler commandHandler = ROUTER.route(partialMessage);
+
+    return commandHandler == null ? List.of()
+            : commandHandler.suggest(partialMessage, sender, limit);
+  }
+
+  /**
+   * Parses given strings of the same {@link ICommandSender} one after another.
+   * Note: Consecutive messages routed to the same {@link CommandHandler} are handled as one
+   * batch by {@link CommandHandler#handleBatch(List, ICommandSender)}.
+   *
+   * @param messages The messages to be parsed.
+   * @param sender   The sender of the messages.
+   * @return The {@link ICommandResult}s of the handled commands in input order, containing null
+   *         for messages no command handler's call symbol matches.
+   */
+  public static List<ICommandResult> parseAll(final List<String> messages,
+          final ICommandSender sender) {
+    final ICommandResult[] commandResults = new ICommandResult[messages.size()];
+    final CommandHandler[] commandHandlers = new CommandHandler[messages.size()];
+    int start = 0;
+
+    for (int i = 0; i < commandHandlers.length; i++) {
+      commandHandlers[i] = ROUTER.route(messages.get(i));
+    }
+
+    while (start < commandResults.length) {
+      final CommandHandler commandHandler = commandHandlers[start];
+      int end = start + 1;
+
+      while (end < commandResults.length && commandHandlers[end] == commandHandler) {
+        end++;
+      }
+
+      if (commandHandler != null) {
+        final List<ICommandResult> batchResults = commandHandler
+                .handleBatch(messages.subList(start, end), sender);
+
+        for (int i = start; i < end; i++) {
+          commandResults[i] = batchResults.get(i - start);
+        }
       }
+
+      start = end;
     }
+
+    return Arrays.asList(commandResults);
   }
 
   /**
@@ -47,15 +127,18 @@ public class AlphaCommandCore {
    *                                       as an existing command handler.
    */
   public static void addCommandHandler(final CommandHandler commandHandler) {
-    if (COMMAND_HANDLERS.stream().map(CommandHandler::getCallSymbol)
-            .anyMatch(commandHandler.getCallSymbol()::equals)) {
-      throw new UnsupportedOperationException("Duplicate call symbol.");
-    }
+    ROUTER.add(commandHandler);
+  }
 
-    COMMAND_HANDLERS.add(commandHandler);
-    COMMAND_HANDLERS
-            .sort(Comparator.comparingInt(cmdHandler -> cmdHandler.getCallSymbol().length()));
-    Collections.reverse(COMMAND_HANDLERS);
+  /**
+   * Removes a {@link CommandHandler} from the collection of command handlers
+   * to be respected in the parsing process.
+   *
+   * @param commandHandler The command handler to be removed.
+   * @return True, if the command handler has been added before, false, if otherwise.
+   */
+  public static boolean removeCommandHandler(final CommandHandler commandHandler) {
+    return ROUTER.remove(commandHandler);
   }
 
   /**
@@ -64,6 +147,6 @@ public class AlphaCommandCore {
    * @return A copy of the command handlers.
    */
   public static List<CommandHandler> getCommandHandlers() {
-    return List.copyOf(COMMAND_HANDLERS);
+    return ROUTER.getCommandHandlers();
   }
 }
@@ -0,0 +1,202 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Subcommand;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link ICommand} calling a method annotated with {@link Subcommand}.
+ * The method is bound to its object once at registration, through a class generated by the
+ * {@link LambdaMetafactory} or, if that is not possible, a {@link MethodHandle}, so calling it
+ * does not need any reflection.
+ */
+final class AnnotatedCommand implements ICommand {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType INVOKER_TYPE =
+          MethodType.methodType(Object.class, Object.class, Object.class);
+  private static final MethodType HANDLE_TYPE =
+          MethodType.methodType(ICommandResult.class, ICommandSender.class, Object.class);
+
+  private final Method method;
+  private final BiFunction<ICommandSender, Object, ICommandResult> invoker;
+  private final boolean viewArgs;
+  private final String[] invokes;
+  private final String[] arguments;
+  private final CommandMetadata metadata;
+
+  private AnnotatedCommand(final Method method,
+          final BiFunction<ICommandSender, Object, ICommandResult> invoker,
+          final Subcommand subcommand) {
+    this.method = method;
+    this.invoker = invoker;
+    this.viewArgs = method.getParameterTypes()[1] == CommandArgs.class;
+    this.invokes = subcommand.invokes().clone();
+    this.arguments = subcommand.arguments().clone();
+    this.metadata = CommandMetadata.of(method);
+  }
+
+  /**
+   * Binds all methods of an object annotated with {@link Subcommand}.
+   *
+   * @param target The object declaring the subcommands.
+   * @return The commands, one per annotated method.
+   * @throws IllegalArgumentException if an annotated method does not have the signature of a
+   *                                  subcommand or there are no annotated methods.
+   */
+  static List<ICommand> of(final Object target) {
+    final List<ICommand> commands = new ArrayList<>();
+
+    for (final Method method : target.getClass().getMethods()) {
+      final Subcommand subcommand = method.getAnnotation(Subcommand.class);
+
+      if (subcommand != null) {
+        checkSignature(method);
+        commands.add(new AnnotatedCommand(method, bind(target, method), subcommand));
+      }
+    }
+
+    if (commands.isEmpty()) {
+      throw new IllegalArgumentException("No subcommands found in "
+              + target.getClass().getName() + ".");
+    }
+
+    return commands;
+  }
+
+  private static void checkSignature(final Method method) {
+    final Class<?>[] parameterTypes = method.getParameterTypes();
+
+    if (Modifier.isStatic(method.getModifiers())
+            || !ICommandResult.class.isAssignableFrom(method.getReturnType())
+            || parameterTypes.length != 2 || parameterTypes[0] != ICommandSender.class
+            || parameterTypes[1] != String[].class && parameterTypes[1] != CommandArgs.class) {
+      throw new IllegalArgumentException("Subcommand " + method + " must be an instance method "
+              + "taking an ICommandSender and String[] or CommandArgs, returning an "
+              + "ICommandResult.");
+    }
+
+    if (method.getAnnotation(Subcommand.class).invokes().length == 0) {
+      throw new IllegalArgumentException("Subcommand " + method + " has no invokes.");
+    }
+  }
+
+  /**
+   * Binds a method to its target through the {@link LambdaMetafactory}, falling back to a
+   * {@link MethodHandle}, if no class can be spun for it.
+   * Note: The lookup is taken in the declaring class, so the generated class is defined by the
+   * class loader of the subcommands, e.g. the one of a plugin, and links against them.
+   */
+  private static BiFunction<ICommandSender, Object, ICommandResult> bind(final Object target,
+          final Method method) {
+    final MethodHandles.Lookup lookup = lookupIn(method);
+    final MethodHandle handle;
+
+    try {
+      handle = lookup.unreflect(method);
+    } catch (final IllegalAccessException e) {
+      throw new IllegalArgumentException("Subcommand " + method + " is not accessible.", e);
+    }
+
+    final CallSite callSite;
+
+    try {
+      callSite = LambdaMetafactory.metafactory(lookup, "apply",
+              MethodType.methodType(BiFunction.class, method.getDeclaringClass()),
+              INVOKER_TYPE, handle, MethodType.methodType(method.getReturnType(),
+                      method.getParameterTypes()));
+    } catch (final LambdaConversionException e) {
+      return bindHandle(target, handle);
+    }
+
+    try {
+      return (BiFunction<ICommandSender, Object, ICommandResult>) callSite.getTarget()
+              .invoke(target);
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  private static MethodHandles.Lookup lookupIn(final Method method) {
+    try {
+      return MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP);
+    } catch (final IllegalAccessException e) {
+      // the declaring module does not open the package, so only reflection is left
+      try {
+        method.setAccessible(true);
+      } catch (final RuntimeException accessException) {
+        throw new IllegalArgumentException("Subcommand " + method + " is not accessible.",
+                accessException);
+      }
+
+      return LOOKUP;
+    }
+  }
+
+  private static BiFunction<ICommandSender, Object, ICommandResult> bindHandle(
+          final Object target, final MethodHandle handle) {
+    final MethodHandle boundHandle = handle.bindTo(target).asType(HANDLE_TYPE);
+
+    return (sender, args) -> {
+      try {
+        return (ICommandResult) boundHandle.invokeExact(sender, args);
+      } catch (final RuntimeException | Error e) {
+        throw e;
+      } catch (final Throwable e) {
+        throw new UndeclaredThrowableException(e);
+      }
+    };
+  }
+
+  @Override
+  public ICommandResult handle(final ICommandSender sender, final String[] args) {
+    return this.invoker.apply(sender, this.viewArgs ? CommandArgs.of(args) : args);
+  }
+
+  @Override
+  public ICommandResult handle(final ICommandSender sender, final CommandArgs args) {
+    return this.invoker.apply(sender, this.viewArgs ? args : args.toArray());
+  }
+
+  @Override
+  public String[] getInvokes() {
+    return this.invokes.clone();
+  }
+
+  @Override
+  public String[] getArguments() {
+    return this.arguments.clone();
+  }
+
+  /**
+   * Gets the {@link CommandMetadata} resolved from the annotations of the method.
+   *
+   * @return The metadata.
+   */
+  CommandMetadata getMetadata() {
+    return this.metadata;
+  }
+
+  @Override
+  public String toString() {
+    return this.method.getDeclaringClass().getName() + "#" + this.method.getName();
+  }
+}
@@ -0,0 +1,26 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import de.alphaconqueror.alphacommandcore.eventhandling.CommandBatchCalledEvent;
+import de.alphaconqueror.alphacommandcore.eventhandling.CommandCalledEvent;
+
+/**
+ * Describes how the events of messages handled in a batch are published.
+ */
+public enum BatchEventMode {
+
+  /**
+   * Publishes a {@link CommandCalledEvent} per message as soon as it has been handled.
+   */
+  PER_ITEM,
+
+  /**
+   * Publishes a single {@link CommandBatchCalledEvent} after the whole batch has been handled.
+   */
+  BATCHED
+}
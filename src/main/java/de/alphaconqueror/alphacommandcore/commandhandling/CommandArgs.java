@@ -0,0 +1,165 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import java.util.Arrays;
+
+/**
+ * An immutable view of a range of arguments in a backing array.
+ * Stripping invokes or passing arguments on only creates a new view, so a message is split into
+ * one array for its whole dispatch.
+ * Note: The backing array is not copied and must not be modified while a view of it is in use.
+ */
+public final class CommandArgs {
+
+  /**
+   * The arguments of a message without any arguments.
+   */
+  public static final CommandArgs EMPTY = new CommandArgs(new String[0], 0, 0);
+
+  private final String[] array;
+  private final int offset;
+  private final int length;
+
+  private CommandArgs(final String[] array, final int offset, final int length) {
+    this.array = array;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Creates a view of all elements of an array.
+   *
+   * @param array The backing array.
+   * @return The arguments.
+   */
+  public static CommandArgs of(final String... array) {
+    return array.length == 0 ? EMPTY : new CommandArgs(array, 0, array.length);
+  }
+
+  /**
+   * Creates a view of a range of an array.
+   *
+   * @param array  The backing array.
+   * @param offset The index of the first argument in the array.
+   * @param length The number of arguments.
+   * @return The arguments.
+   * @throws IndexOutOfBoundsException if the range exceeds the array.
+   */
+  public static CommandArgs of(final String[] array, final int offset, final int length) {
+    if (offset < 0 || length < 0 || offset + length > array.length) {
+      throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+              + ") out of bounds for length " + array.length);
+    }
+
+    return length == 0 ? EMPTY : new CommandArgs(array, offset, length);
+  }
+
+  /**
+   * Gets an argument.
+   *
+   * @param index The index of the argument.
+   * @return The argument.
+   * @throws IndexOutOfBoundsException if there is no argument at the index.
+   */
+  public String get(final int index) {
+    if (index < 0 || index >= this.length) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length "
+              + this.length);
+    }
+
+    return this.array[this.offset + index];
+  }
+
+  /**
+   * Gets the number of arguments.
+   *
+   * @return The number of arguments.
+   */
+  public int size() {
+    return this.length;
+  }
+
+  /**
+   * Checks, if there are no arguments.
+   *
+   * @return True, if there are no arguments, false, if otherwise.
+   */
+  public boolean isEmpty() {
+    return this.length == 0;
+  }
+
+  /**
+   * Creates a view of the arguments starting at an index, sharing the backing array.
+   *
+   * @param fromIndex The index of the first argument.
+   * @return The remaining arguments.
+   * @throws IndexOutOfBoundsException if the index exceeds the arguments.
+   */
+  public CommandArgs subArgs(final int fromIndex) {
+    return subArgs(fromIndex, this.length);
+  }
+
+  /**
+   * Creates a view of a range of the arguments, sharing the backing array.
+   *
+   * @param fromIndex The index of the first argument, inclusive.
+   * @param toIndex   The index of the last argument, exclusive.
+   * @return The arguments in the range.
+   * @throws IndexOutOfBoundsException if the range exceeds the arguments.
+   */
+  public CommandArgs subArgs(final int fromIndex, final int toIndex) {
+    if (fromIndex < 0 || toIndex > this.length || fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex
+              + ") out of bounds for length " + this.length);
+    }
+
+    return fromIndex == 0 && toIndex == this.length ? this
+            : of(this.array, this.offset + fromIndex, toIndex - fromIndex);
+  }
+
+  /**
+   * Copies the arguments into a new array.
+   *
+   * @return The arguments.
+   */
+  public String[] toArray() {
+    return Arrays.copyOfRange(this.array, this.offset, this.offset + this.length);
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (this == object) {
+      return true;
+    }
+
+    if (!(object instanceof CommandArgs)) {
+      return false;
+    }
+
+    final CommandArgs other = (CommandArgs) object;
+
+    return Arrays.equals(this.array, this.offset, this.offset + this.length, other.array,
+            other.offset, other.offset + other.length);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+
+    for (int i = this.offset; i < this.offset + this.length; i++) {
+      hashCode = 31 * hashCode + this.array[i].hashCode();
+    }
+
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+}
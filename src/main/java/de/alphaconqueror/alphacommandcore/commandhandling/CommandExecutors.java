@@ -0,0 +1,61 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Factory for {@link java.util.concurrent.Executor}s suited to execute {@link ICommand}s
+ * asynchronously.
+ */
+public final class CommandExecutors {
+
+  private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR =
+          findVirtualThreadPerTaskExecutor();
+
+  private CommandExecutors() { }
+
+  private static MethodHandle findVirtualThreadPerTaskExecutor() {
+    try {
+      return MethodHandles.publicLookup().findStatic(Executors.class,
+              "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+    } catch (final NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Checks, if the running JDK supports virtual threads.
+   *
+   * @return True, if virtual threads are supported, false, if otherwise.
+   */
+  public static boolean isVirtualThreadSupported() {
+    return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * Creates an {@link ExecutorService} starting a new virtual thread for every command.
+   *
+   * @return The executor service.
+   * @throws UnsupportedOperationException if the running JDK does not support virtual threads.
+   */
+  public static ExecutorService newVirtualThreadPerCommandExecutor() {
+    if (!isVirtualThreadSupported()) {
+      throw new UnsupportedOperationException("Virtual threads are not supported.");
+    }
+
+    try {
+      return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+    } catch (final Throwable throwable) {
+      throw new UnsupportedOperationException("Virtual threads are not supported.", throwable);
+    }
+  }
+}
@@ -6,32 +6,73 @@
 
 package de.alphaconqueror.alphacommandcore.commandhandling;
 
-import de.alphaconqueror.alphacommandcore.commandhandling.annotations.OnlyAllowedSenders;
-import de.alphaconqueror.alphacommandcore.commandhandling.annotations.PermissionRequired;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Cacheable;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.RateLimit;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Subcommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ArgumentSchema;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ParsedArguments;
+import de.alphaconqueror.alphacommandcore.commandhandling.metrics.CommandMetrics;
+import de.alphaconqueror.alphacommandcore.eventhandling.AsyncEventPublisher;
+import de.alphaconqueror.alphacommandcore.eventhandling.CommandBatchCalledEvent;
 import de.alphaconqueror.alphacommandcore.eventhandling.CommandCalledEvent;
 import de.alphaconqueror.alphaeventcore.AlphaEventCore;
-import java.lang.reflect.Method;
+import de.alphaconqueror.alphaeventcore.eventhandling.Event;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 @SuppressWarnings("PMD.LinguisticNaming")
 public class CommandHandler {
 
-  private final List<ICommand> commands = new ArrayList<>();
+  private static final Predicate<ICommandResult> DEFAULT_EVENT_FILTER =
+          commandResult -> !(commandResult instanceof ICommandResult.ErrorNoCommand);
+
+  private final AtomicReference<CommandTrie> commandTrie =
+          new AtomicReference<>(CommandTrie.EMPTY);
+  private final LongAdder bulkheadRejections = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
   private String callSymbol = "";
-  private final List<String> defaultInvokes = new ArrayList<>();
+  private volatile List<String> defaultInvokes = List.of();
+  private ICommandResult.ErrorNoCommand errorNoCommand =
+          new ICommandResult.ErrorNoCommand(this.callSymbol);
+  private volatile ICommandResult.ErrorNoInvokeMatch errorNoInvokeMatch =
+          new ICommandResult.ErrorNoInvokeMatch(new String[0]);
   private String separator = " ";
   private boolean ignoreBlanks = true;
+  private boolean parseQuotes;
+  private volatile Executor executor = ForkJoinPool.commonPool();
+  private volatile RateLimiter rateLimiter;
+  private volatile BatchEventMode batchEventMode = BatchEventMode.PER_ITEM;
+  private volatile CommandMetrics metrics;
+  private volatile Predicate<? super ICommandResult> eventFilter = DEFAULT_EVENT_FILTER;
+  private volatile AsyncEventPublisher eventPublisher;
+  private volatile int maxSuggestionDistance;
+  private volatile PermissionCache permissionCache;
+  private volatile ResultCache resultCache;
+  private volatile int maxSuggestions = 3;
+  private volatile MessageTokenizer tokenizer =
+          new MessageTokenizer(this.separator, this.ignoreBlanks, this.parseQuotes);
 
   public CommandHandler() { }
 
   public CommandHandler(final String callSymbol) {
     this.callSymbol = callSymbol;
+    this.errorNoCommand = new ICommandResult.ErrorNoCommand(callSymbol);
   }
 
   public CommandHandler addDefaultInvokes(final String... defaultInvokes) {
@@ -39,18 +80,171 @@ public class CommandHandler {
     return this;
   }
 
-  public CommandHandler addDefaultInvokes(final Collection<String> defaultInvokes) {
-    this.defaultInvokes.addAll(defaultInvokes);
+  public synchronized CommandHandler addDefaultInvokes(final Collection<String> defaultInvokes) {
+    final List<String> newDefaultInvokes = new ArrayList<>(this.defaultInvokes);
+
+    newDefaultInvokes.addAll(defaultInvokes);
+    this.errorNoInvokeMatch =
+            new ICommandResult.ErrorNoInvokeMatch(newDefaultInvokes.toArray(new String[0]));
+    this.defaultInvokes = List.copyOf(newDefaultInvokes);
     return this;
   }
 
-  public CommandHandler setSeparator(final String separator) {
+  public synchronized CommandHandler setSeparator(final String separator) {
     this.separator = separator;
-    return this;
+    return updateTokenizer();
   }
 
-  public CommandHandler setIgnoreBlanks(final boolean ignoreBlanks) {
+  public synchronized CommandHandler setIgnoreBlanks(final boolean ignoreBlanks) {
     this.ignoreBlanks = ignoreBlanks;
+    return updateTokenizer();
+  }
+
+  public synchronized CommandHandler setParseQuotes(final boolean parseQuotes) {
+    this.parseQuotes = parseQuotes;
+    return updateTokenizer();
+  }
+
+  /**
+   * Sets, if invokes and default invokes are matched case-insensitively.
+   * Registered invokes are normalized once, so matching a message does not need a lowercased
+   * copy of it.
+   *
+   * @param ignoreCase True, if the case should be ignored, false, if otherwise.
+   * @return This command handler.
+   * @throws UnsupportedOperationException if two registered commands have the same invokes
+   *                                       ignoring case.
+   */
+  public CommandHandler setIgnoreCase(final boolean ignoreCase) {
+    this.commandTrie.updateAndGet(trie -> trie.withIgnoreCase(ignoreCase));
+    return this;
+  }
+
+  private CommandHandler updateTokenizer() {
+    this.tokenizer = new MessageTokenizer(this.separator, this.ignoreBlanks, this.parseQuotes);
+    return this;
+  }
+
+  /**
+   * Sets the {@link Executor} used to execute commands handled asynchronously.
+   *
+   * @param executor The executor, e.g.
+   *                 {@link CommandExecutors#newVirtualThreadPerCommandExecutor()}.
+   * @return This command handler.
+   */
+  public CommandHandler setExecutor(final Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  /**
+   * Sets the {@link RateLimiter} applied to every command handled by this command handler,
+   * additionally to the {@link RateLimit} of single commands.
+   *
+   * @param rateLimiter The rate limiter, null, to disable rate limiting on handler level.
+   * @return This command handler.
+   */
+  public CommandHandler setRateLimiter(final RateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+    return this;
+  }
+
+  /**
+   * Sets how the events of messages handled in a batch are published.
+   *
+   * @param batchEventMode The batch event mode.
+   * @return This command handler.
+   */
+  public CommandHandler setBatchEventMode(final BatchEventMode batchEventMode) {
+    this.batchEventMode = batchEventMode;
+    return this;
+  }
+
+  /**
+   * Sets the {@link CommandMetrics} recording the dispatch of this command handler.
+   *
+   * @param metrics The metrics, null, to disable recording.
+   * @return This command handler.
+   */
+  public CommandHandler setMetrics(final CommandMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
+  /**
+   * Sets the filter deciding for which {@link ICommandResult}s a {@link CommandCalledEvent} is
+   * published. Events of rejected results are neither built nor published.
+   * By default, {@link ICommandResult.ErrorNoCommand}s are rejected, so messages without the
+   * call symbol, e.g. ordinary chat lines, do not cause any event work.
+   *
+   * @param eventFilter The filter, null, to publish an event for every result.
+   * @return This command handler.
+   */
+  public CommandHandler setEventFilter(final Predicate<? super ICommandResult> eventFilter) {
+    this.eventFilter = eventFilter;
+    return this;
+  }
+
+  /**
+   * Sets the {@link AsyncEventPublisher} publishing the events of this command handler on its
+   * own thread.
+   *
+   * @param eventPublisher The event publisher, null, to publish events on the thread handling
+   *                       the command.
+   * @return This command handler.
+   */
+  public CommandHandler setEventPublisher(final AsyncEventPublisher eventPublisher) {
+    this.eventPublisher = eventPublisher;
+    return this;
+  }
+
+  /**
+   * Sets the maximum Levenshtein distance of the invokes suggested with
+   * {@link ICommandResult.ErrorCommandNotFound}.
+   * Note: The suggestions are looked up in an index built at registration and only when no
+   * command has been found.
+   *
+   * @param maxSuggestionDistance The maximum distance, 0, to disable suggestions.
+   * @return This command handler.
+   */
+  public CommandHandler setMaxSuggestionDistance(final int maxSuggestionDistance) {
+    this.maxSuggestionDistance = maxSuggestionDistance;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of invokes suggested with
+   * {@link ICommandResult.ErrorCommandNotFound}.
+   *
+   * @param maxSuggestions The maximum number of suggestions.
+   * @return This command handler.
+   */
+  public CommandHandler setMaxSuggestions(final int maxSuggestions) {
+    this.maxSuggestions = maxSuggestions;
+    return this;
+  }
+
+  /**
+   * Sets the {@link PermissionCache} used to check the permissions required by commands.
+   *
+   * @param permissionCache The permission cache, null, to ask the sender on every check.
+   * @return This command handler.
+   */
+  public CommandHandler setPermissionCache(final PermissionCache permissionCache) {
+    this.permissionCache = permissionCache;
+    return this;
+  }
+
+  /**
+   * Sets the {@link ResultCache} memoizing the results of commands declared {@link Cacheable}.
+   * Results are looked up after the sender, permission and rate limit checks have passed.
+   * By default, there is no cache, so commands are only memoized once it has been set.
+   *
+   * @param resultCache The result cache, null, to always execute the commands.
+   * @return This command handler.
+   */
+  public CommandHandler setResultCache(final ResultCache resultCache) {
+    this.resultCache = resultCache;
     return this;
   }
 
@@ -62,16 +256,76 @@ public class CommandHandler {
    * @return The {@link ICommandResult} of the handled command.
    */
   public ICommandResult handle(final String message, final ICommandSender sender) {
-    if (!message.startsWith(this.callSymbol)) {
-      final ICommandResult commandResult = new ICommandResult.ErrorNoCommand(this.callSymbol);
+    return execute(resolve(message, sender), sender, null, 0);
+  }
 
-      AlphaEventCore.callEvent(new CommandCalledEvent(sender, this, new String[0], commandResult));
+  /**
+   * Handles a {@link ICommand} by a given message without copying it into a string first.
+   * Only the arguments handed to the command are materialized as strings.
+   *
+   * @param message The message to be parsed and handled, e.g. a {@link CharBuffer}.
+   * @param sender  The {@link ICommandSender} of the message.
+   * @return The {@link ICommandResult} of the handled command.
+   */
+  public ICommandResult handle(final CharSequence message, final ICommandSender sender) {
+    return execute(resolve(message, sender), sender, null, 0);
+  }
 
-      return commandResult;
+  /**
+   * Handles a {@link ICommand} by a given encoded message, e.g. read from a network buffer.
+   * Messages not starting with the call symbol are rejected before being decoded, if the
+   * charset is ASCII-compatible and the call symbol consists of ASCII characters only.
+   * Note: The position of the buffer is not modified.
+   *
+   * @param message The remaining bytes of the buffer, containing the message to be parsed and
+   *                handled.
+   * @param charset The charset the message is encoded in.
+   * @param sender  The {@link ICommandSender} of the message.
+   * @return The {@link ICommandResult} of the handled command.
+   */
+  public ICommandResult handle(final ByteBuffer message, final Charset charset,
+          final ICommandSender sender) {
+    if (isAsciiCompatible(charset) && !startsWithAsciiCallSymbol(message)) {
+      return execute(Invocation.rejected(CommandArgs.EMPTY, this.errorNoCommand), sender, null,
+              0);
     }
 
-    return handle(splitMessage(message.substring(this.callSymbol.length())).toArray(new String[0]),
-            sender);
+    return execute(resolve(charset.decode(message.duplicate()), sender), sender, null, 0);
+  }
+
+  private static boolean isAsciiCompatible(final Charset charset) {
+    return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)
+            || StandardCharsets.ISO_8859_1.equals(charset);
+  }
+
+  /**
+   * Compares the call symbol to the first bytes of an ASCII-compatible encoded message.
+   *
+   * @param message The encoded message.
+   * @return False, if the message certainly does not start with the call symbol, true, if it
+   *         does or the call symbol contains non-ASCII characters.
+   */
+  private boolean startsWithAsciiCallSymbol(final ByteBuffer message) {
+    final String callSymbol = this.callSymbol;
+    final int position = message.position();
+
+    for (int i = 0; i < callSymbol.length(); i++) {
+      if (callSymbol.charAt(i) > 0x7F) {
+        return true;
+      }
+    }
+
+    if (callSymbol.length() > message.remaining()) {
+      return false;
+    }
+
+    for (int i = 0; i < callSymbol.length(); i++) {
+      if (message.get(position + i) != (byte) callSymbol.charAt(i)) {
+        return false;
+      }
+    }
+
+    return true;
   }
 
   /**
@@ -83,115 +337,462 @@ public class CommandHandler {
    * @return The {@link ICommandResult} of the handled command.
    */
   public ICommandResult handle(final String[] args, final ICommandSender sender) {
-    Optional<ICommandResult> commandResult = Optional.empty();
-    List<String> argList = List.of(args);
+    return execute(resolve(CommandArgs.of(args.clone()), sender), sender, null, 0);
+  }
+
+  /**
+   * Handles a {@link ICommand} by given arguments without copying them.
+   * Note: Does not check if the call symbol of the command is present. The backing array must
+   * not be modified until the {@link CommandCalledEvent} and the returned result have been
+   * handled.
+   *
+   * @param args   The arguments to be handled.
+   * @param sender The {@link ICommandSender} of the arguments.
+   * @return The {@link ICommandResult} of the handled command.
+   */
+  public ICommandResult handle(final CommandArgs args, final ICommandSender sender) {
+    return execute(resolve(args, sender), sender, null, 0);
+  }
+
+  /**
+   * Handles a {@link ICommand} by a given message asynchronously.
+   * Note: Parsing and checking the sender happen on the calling thread, only the command
+   * itself is executed by the {@link Executor} of this command handler.
+   *
+   * @param message The message to be parsed and handled.
+   * @param sender  The {@link ICommandSender} of the message.
+   * @return A future completed with the {@link ICommandResult} of the handled command.
+   */
+  public CompletableFuture<ICommandResult> handleAsync(final String message,
+          final ICommandSender sender) {
+    return executeAsync(resolve(message, sender), sender);
+  }
 
-    if (!invokesMatch(this.defaultInvokes.toArray(new String[0]), argList.toArray(new String[0]))) {
-      commandResult = Optional.of(new ICommandResult.ErrorNoInvokeMatch(
-              this.defaultInvokes.toArray(new String[0])));
+  /**
+   * Handles a {@link ICommand} by given arguments asynchronously.
+   * Note: Does not check if the call symbol of the command is present.
+   *
+   * @param args   The arguments to be handled.
+   * @param sender The {@link ICommandSender} of the arguments.
+   * @return A future completed with the {@link ICommandResult} of the handled command.
+   */
+  public CompletableFuture<ICommandResult> handleAsync(final String[] args,
+          final ICommandSender sender) {
+    return executeAsync(resolve(CommandArgs.of(args.clone()), sender), sender);
+  }
+
+  private CompletableFuture<ICommandResult> executeAsync(final Invocation invocation,
+          final ICommandSender sender) {
+    if (invocation.isRejected()) {
+      return CompletableFuture.completedFuture(execute(invocation, sender, null, 0));
     }
 
-    if (commandResult.isEmpty()) {
-      argList = argList.subList(this.defaultInvokes.size(), argList.size());
+    return CompletableFuture.supplyAsync(() -> execute(invocation, sender, null, 0),
+            this.executor);
+  }
 
-      final Optional<ICommand> command = getCommandMatchingInvokes(argList);
+  /**
+   * Handles {@link ICommand}s by given messages of the same {@link ICommandSender} one after
+   * another.
+   * Note: The events are published as configured by the {@link BatchEventMode}.
+   *
+   * @param messages The messages to be parsed and handled.
+   * @param sender   The sender of the messages.
+   * @return The {@link ICommandResult}s of the handled commands in input order.
+   */
+  public List<ICommandResult> handleBatch(final List<String> messages,
+          final ICommandSender sender) {
+    final ICommandResult[] commandResults = new ICommandResult[messages.size()];
+    final CommandCalledEvent[] events = newBatchEvents(messages.size());
 
-      if (command.isPresent()) {
-        commandResult = Optional.ofNullable(handleCommand(command.get(),
-                (argList = argList.subList(command.get().getInvokes().length, argList.size()))
-                        .toArray(new String[0]), sender));
-      } else {
-        commandResult = Optional
-                .of(new ICommandResult.ErrorCommandNotFound(argList.toArray(new String[0])));
-      }
+    for (int i = 0; i < commandResults.length; i++) {
+      commandResults[i] = execute(resolve(messages.get(i), sender), sender, events, i);
     }
 
-    AlphaEventCore.callEvent(new CommandCalledEvent(sender, this, argList.toArray(new String[0]),
-            commandResult.orElse(null)));
+    publishBatchEvents(events);
 
-    return commandResult.orElse(null);
+    return Arrays.asList(commandResults);
   }
 
   /**
-   * Handles a {@link ICommand}.
+   * Handles {@link ICommand}s by given messages of different {@link ICommandSender}s in
+   * parallel, while the messages of the same sender are executed one after another in input
+   * order.
+   * Senders are told apart by their {@link ICommandSender#getSenderKey() key}, so different
+   * instances representing the same sender keep their order as well. Senders without a key are
+   * told apart by the instance.
+   * Note: All messages are resolved on the calling thread before the first command is executed.
+   * The events are published as configured by the {@link BatchEventMode}.
    *
-   * @param command The command to be handled.
-   * @param args    The arguments of the command.
-   * @param sender  The {@link ICommandSender} of the command.
-   * @return The {@link ICommandResult} of the handled command.
+   * @param messages The messages to be parsed and handled.
+   * @param senders  The senders of the messages, one per message.
+   * @param pool     The pool executing the commands.
+   * @return The {@link ICommandResult}s of the handled commands in input order.
+   * @throws IllegalArgumentException if the number of senders does not match the number of
+   *                                  messages.
    */
-  public static ICommandResult handleCommand(final ICommand command, final String[] args,
-          final ICommandSender sender) {
-    Optional<ICommandResult> commandResult = Optional.empty();
-
-    try {
-      final Method method = command.getClass()
-              .getMethod("handle", ICommandSender.class, String[].class);
-
-      if (method.isAnnotationPresent(OnlyAllowedSenders.class)) {
-        if (sender == null) {
-          commandResult = Optional.of(new ICommandResult.ErrorIllegalSender(null));
-        } else if (Arrays.stream(method.getAnnotation(OnlyAllowedSenders.class).identifiers())
-                .noneMatch(sender.getIdentifier()::equals)) {
-          commandResult = Optional.of(new ICommandResult.ErrorIllegalSender(sender.getClass()));
+  public List<ICommandResult> handleBatch(final List<String> messages,
+          final List<? extends ICommandSender> senders, final ForkJoinPool pool) {
+    if (messages.size() != senders.size()) {
+      throw new IllegalArgumentException("Senders do not match messages.");
+    }
+
+    final ICommandResult[] commandResults = new ICommandResult[messages.size()];
+    final CommandCalledEvent[] events = newBatchEvents(messages.size());
+    final Invocation[] invocations = new Invocation[messages.size()];
+    final Map<Object, List<Integer>> indicesBySender = new HashMap<>();
+
+    for (int i = 0; i < invocations.length; i++) {
+      final ICommandSender sender = senders.get(i);
+      final Object senderKey = sender == null ? null : sender.getSenderKey();
+
+      invocations[i] = resolve(messages.get(i), sender);
+      indicesBySender.computeIfAbsent(senderKey == null ? sender : senderKey,
+              key -> new ArrayList<>()).add(i);
+    }
+
+    final List<ForkJoinTask<?>> tasks = new ArrayList<>(indicesBySender.size());
+
+    for (final List<Integer> indices : indicesBySender.values()) {
+      tasks.add(ForkJoinTask.adapt(() -> {
+        for (final int index : indices) {
+          commandResults[index] = execute(invocations[index], senders.get(index), events, index);
         }
+      }));
+    }
+
+    pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    publishBatchEvents(events);
+
+    return Arrays.asList(commandResults);
+  }
+
+  private CommandCalledEvent[] newBatchEvents(final int size) {
+    return this.batchEventMode == BatchEventMode.BATCHED ? new CommandCalledEvent[size] : null;
+  }
+
+  private void publishBatchEvents(final CommandCalledEvent[] events) {
+    if (events == null) {
+      return;
+    }
+
+    final List<CommandCalledEvent> publishedEvents = new ArrayList<>(events.length);
+
+    for (final CommandCalledEvent event : events) {
+      if (event != null) {
+        publishedEvents.add(event);
       }
+    }
+
+    if (!publishedEvents.isEmpty()) {
+      publish(new CommandBatchCalledEvent(this, publishedEvents));
+    }
+  }
 
-      if (commandResult.isEmpty() && method.isAnnotationPresent(PermissionRequired.class)) {
-        final String permission = method.getAnnotation(PermissionRequired.class).permission();
+  private void publish(final Event event) {
+    final AsyncEventPublisher eventPublisher = this.eventPublisher;
 
-        if (sender == null || !sender.hasPermission(permission)) {
-          commandResult = Optional.of(new ICommandResult.ErrorPermission(permission));
-        }
+    if (eventPublisher == null) {
+      AlphaEventCore.callEvent(event);
+    } else {
+      eventPublisher.publish(event);
+    }
+  }
+
+  /**
+   * Executes an {@link Invocation} and publishes its {@link CommandCalledEvent}, if the event
+   * filter accepts the result.
+   *
+   * @param invocation  The invocation to be executed.
+   * @param sender      The {@link ICommandSender} of the invocation.
+   * @param batchEvents The events of a batch to store the event in instead of publishing it,
+   *                    null, to publish it right away.
+   * @param batchIndex  The index of the invocation in the batch.
+   * @return The {@link ICommandResult} of the invocation.
+   */
+  private ICommandResult execute(final Invocation invocation, final ICommandSender sender,
+          final CommandCalledEvent[] batchEvents, final int batchIndex) {
+    final CommandMetrics metrics = this.metrics;
+    final ICommandResult commandResult;
+
+    if (metrics == null) {
+      commandResult = invocation.execute(sender);
+    } else {
+      final long executionStart = System.nanoTime();
+
+      commandResult = invocation.execute(sender);
+
+      if (!invocation.isRejected()) {
+        metrics.recordExecution(invocation.getCommand(), System.nanoTime() - executionStart);
+      }
+
+      metrics.recordResult(commandResult);
+    }
+
+    if (commandResult instanceof ICommandResult.ErrorBulkheadFull) {
+      this.bulkheadRejections.increment();
+    } else if (commandResult instanceof ICommandResult.ErrorTimedOut) {
+      this.timeouts.increment();
+    }
+
+    final Predicate<? super ICommandResult> eventFilter = this.eventFilter;
+
+    if (eventFilter != null && !eventFilter.test(commandResult)) {
+      return commandResult;
+    }
+
+    final CommandCalledEvent event = new CommandCalledEvent(sender, this, invocation.getArgs(),
+            commandResult);
+
+    if (batchEvents == null) {
+      publish(event);
+    } else {
+      batchEvents[batchIndex] = event;
+    }
+
+    return commandResult;
+  }
+
+  /**
+   * Resolves the {@link ICommand} matching a message.
+   *
+   * @param message The message to be parsed.
+   * @param sender  The sender of the message.
+   * @return The resolved invocation.
+   */
+  private Invocation resolve(final CharSequence message, final ICommandSender sender) {
+    final CommandMetrics metrics = this.metrics;
+    final long parseStart = metrics == null ? 0 : System.nanoTime();
+
+    if (!startsWithCallSymbol(message)) {
+      return Invocation.rejected(CommandArgs.EMPTY, this.errorNoCommand);
+    }
+
+    return resolve(CommandArgs.of(
+            this.tokenizer.tokenize(message, this.callSymbol.length()).toArray(0)),
+            sender, metrics, parseStart);
+  }
+
+  private boolean startsWithCallSymbol(final CharSequence message) {
+    final String callSymbol = this.callSymbol;
+
+    if (message instanceof String) {
+      return ((String) message).startsWith(callSymbol);
+    }
+
+    if (callSymbol.length() > message.length()) {
+      return false;
+    }
+
+    for (int i = 0; i < callSymbol.length(); i++) {
+      if (message.charAt(i) != callSymbol.charAt(i)) {
+        return false;
       }
-    } catch (final NoSuchMethodException e) {
-      e.printStackTrace();
     }
 
-    if (commandResult.isEmpty()) {
-      commandResult = Optional.ofNullable(command.handle(sender, args));
+    return true;
+  }
+
+  private Invocation resolve(final CommandArgs args, final ICommandSender sender) {
+    final CommandMetrics metrics = this.metrics;
+
+    return resolve(args, sender, metrics, metrics == null ? 0 : System.nanoTime());
+  }
+
+  /**
+   * Resolves the {@link ICommand} matching the arguments and checks if the
+   * {@link ICommandSender} is allowed to execute it.
+   *
+   * @param args       The arguments to be resolved.
+   * @param sender     The sender of the arguments.
+   * @param metrics    The metrics to record the phases in, null, if disabled.
+   * @param parseStart The {@link System#nanoTime()} the parse phase started at.
+   * @return The resolved invocation.
+   */
+  private Invocation resolve(final CommandArgs args, final ICommandSender sender,
+          final CommandMetrics metrics, final long parseStart) {
+    final List<String> defaultInvokes = this.defaultInvokes;
+    final RateLimiter rateLimiter = this.rateLimiter;
+
+    if (rateLimiter != null && sender != null) {
+      final long retryAfter = rateLimiter.tryAcquire(sender.getSenderKey());
+
+      if (retryAfter != 0) {
+        return Invocation.rejected(args, new ICommandResult.ErrorRateLimited(retryAfter));
+      }
     }
 
-    return commandResult.orElse(null);
+    final CommandTrie trie = this.commandTrie.get();
+
+    if (!invokesMatch(defaultInvokes, args, trie.isIgnoringCase())) {
+      return Invocation.rejected(args, this.errorNoInvokeMatch);
+    }
+
+    final CommandTrie.Node match = trie.findLongestMatch(args, defaultInvokes.size());
+    final long authorizationStart = metrics == null ? 0 : System.nanoTime();
+
+    if (metrics != null) {
+      metrics.recordParse(authorizationStart - parseStart);
+    }
+
+    if (match == null) {
+      final CommandArgs remainingArgs = args.subArgs(defaultInvokes.size());
+      final int maxSuggestionDistance = this.maxSuggestionDistance;
+
+      return Invocation.rejected(remainingArgs, new ICommandResult.ErrorCommandNotFound(
+              remainingArgs, maxSuggestionDistance <= 0 ? List.of()
+              : trie.findSimilar(remainingArgs.toArray(), maxSuggestionDistance,
+                      this.maxSuggestions, sender, this.permissionCache)));
+    }
+
+    final CommandArgs commandArgs = args.subArgs(defaultInvokes.size() + match.getDepth());
+    final RegisteredCommand registeredCommand = match.getRegisteredCommand();
+    final ICommandResult commandResult =
+            registeredCommand.authorize(sender, this.permissionCache);
+
+    if (metrics != null) {
+      metrics.recordAuthorization(System.nanoTime() - authorizationStart);
+    }
+
+    if (commandResult != null) {
+      return Invocation.rejected(commandArgs, commandResult);
+    }
+
+    final ArgumentSchema argumentSchema = registeredCommand.getArgumentSchema();
+    final Invocation invocation;
+
+    if (argumentSchema == null) {
+      invocation = Invocation.of(match.getCommand(), commandArgs);
+    } else {
+      final ParsedArguments parsedArgs = argumentSchema.parse(commandArgs);
+
+      if (!parsedArgs.isValid()) {
+        return Invocation.rejected(commandArgs, parsedArgs.getError());
+      }
+
+      invocation = Invocation.of((ITypedCommand) match.getCommand(), commandArgs, parsedArgs);
+    }
+
+    final Cacheable cacheable = registeredCommand.getMetadata().getCacheable();
+    final ResultCache resultCache = this.resultCache;
+    final Invocation cachedInvocation = cacheable == null || resultCache == null ? invocation
+            : invocation.cachedIn(resultCache, cacheable);
+
+    return registeredCommand.isGuarded() ? cachedInvocation.guardedBy(registeredCommand)
+            : cachedInvocation;
   }
 
-  private Optional<ICommand> getCommandMatchingInvokes(final Collection<String> invokes) {
-    return this.commands.stream()
-            .filter(command -> invokesMatch(command.getInvokes(), invokes.toArray(new String[0])))
-            .findFirst();
+  /**
+   * Suggests completions of the last argument of a partially typed message.
+   *
+   * @param partialMessage The message typed so far.
+   * @param sender         The {@link ICommandSender} typing the message.
+   * @return The completions in lexicographical order.
+   * @see #suggest(String, ICommandSender, int)
+   */
+  public List<String> suggest(final String partialMessage, final ICommandSender sender) {
+    return suggest(partialMessage, sender, Integer.MAX_VALUE);
   }
 
   /**
-   * Splits the message into an array without spaces.
-   * Note: The first element contains all spaces in front for invoke matching purposes.
+   * Suggests completions of the last argument of a partially typed message.
+   * The call symbol and the default invokes are matched like in {@link #handle(String,
+   * ICommandSender)}. Only invokes leading to a {@link ICommand} the sender is allowed to
+   * execute are suggested. If the message ends with a separator, the next invoke is completed.
    *
-   * @param message The message to be split.
-   * @return The split message.
+   * @param partialMessage The message typed so far.
+   * @param sender         The {@link ICommandSender} typing the message.
+   * @param limit          The maximum number of completions.
+   * @return The completions in lexicographical order, an empty list, if there are none.
    */
-  private List<String> splitMessage(final String message) {
-    final List<String> split = Arrays.asList(message.split("(?<!\\\\)" + this.separator));
+  public List<String> suggest(final String partialMessage, final ICommandSender sender,
+          final int limit) {
+    if (limit <= 0 || !partialMessage.startsWith(this.callSymbol)) {
+      return List.of();
+    }
 
-    if (this.ignoreBlanks) {
-      split.removeIf(String::isBlank);
+    final MessageTokenizer.Tokens tokens =
+            this.tokenizer.tokenize(partialMessage, this.callSymbol.length());
+    final String[] args = tokens.toArray(0);
+    final boolean completed = args.length == 0
+            || tokens.getEnd(args.length - 1) < partialMessage.length();
+    final int length = completed ? args.length : args.length - 1;
+    final String prefix = completed ? "" : args[length];
+    final List<String> defaultInvokes = this.defaultInvokes;
+    final CommandTrie trie = this.commandTrie.get();
+    final boolean ignoreCase = trie.isIgnoringCase();
+
+    if (length < defaultInvokes.size()) {
+      if (!invokesMatch(defaultInvokes.subList(0, length), CommandArgs.of(args), ignoreCase)) {
+        return List.of();
+      }
+
+      final String defaultInvoke = defaultInvokes.get(length);
+
+      return defaultInvoke.regionMatches(ignoreCase, 0, prefix, 0, prefix.length())
+              && trie.isVisibleTo(sender, this.permissionCache)
+              ? List.of(defaultInvoke) : List.of();
     }
 
-    return split;
+    if (!invokesMatch(defaultInvokes, CommandArgs.of(args), ignoreCase)) {
+      return List.of();
+    }
+
+    final List<String> completions = new ArrayList<>();
+
+    trie.complete(args, defaultInvokes.size(), length - defaultInvokes.size(), prefix, sender,
+            this.permissionCache, limit, completions);
+
+    return completions;
+  }
+
+  /**
+   * Handles a {@link ICommand}.
+   *
+   * @param command The command to be handled.
+   * @param args    The arguments of the command.
+   * @param sender  The {@link ICommandSender} of the command.
+   * @return The {@link ICommandResult} of the handled command.
+   */
+  public static ICommandResult handleCommand(final ICommand command, final String[] args,
+          final ICommandSender sender) {
+    final ICommandResult commandResult = CommandMetadata.of(command).authorize(sender, null);
+
+    return commandResult == null ? command.handle(sender, args) : commandResult;
+  }
+
+  /**
+   * Handles a {@link ICommand} by a view of its arguments.
+   *
+   * @param command The command to be handled.
+   * @param args    The arguments of the command.
+   * @param sender  The {@link ICommandSender} of the command.
+   * @return The {@link ICommandResult} of the handled command.
+   */
+  public static ICommandResult handleCommand(final ICommand command, final CommandArgs args,
+          final ICommandSender sender) {
+    final ICommandResult commandResult = CommandMetadata.of(command).authorize(sender, null);
+
+    return commandResult == null ? command.handle(sender, args) : commandResult;
   }
 
   /**
    * Checks, if the given invokes are the same.
    *
-   * @param invokes The invokes of the command.
-   * @param args    The arguments of the parsed message.
+   * @param invokes    The invokes of the command.
+   * @param args       The arguments of the parsed message.
+   * @param ignoreCase True, if the case should be ignored, false, if otherwise.
    * @return True, if the invokes are equal, false, if otherwise.
    */
-  private boolean invokesMatch(final String[] invokes, final String[] args) {
-    if (invokes.length > args.length) {
+  private boolean invokesMatch(final List<String> invokes, final CommandArgs args,
+          final boolean ignoreCase) {
+    if (invokes.size() > args.size()) {
       return false;
     }
 
-    for (int i = 0; i < invokes.length; i++) {
-      if (!invokes[i].equals(args[i])) {
+    for (int i = 0; i < invokes.size(); i++) {
+      if (ignoreCase ? !invokes.get(i).equalsIgnoreCase(args.get(i))
+              : !invokes.get(i).equals(args.get(i))) {
         return false;
       }
     }
@@ -231,27 +832,141 @@ public class CommandHandler {
 
   /**
    * Registers a {@link ICommand}.
+   * Note: Safe to be called while other threads are handling commands.
    *
    * @param command The command to be added.
+   * @throws UnsupportedOperationException if a command with the same invokes is already
+   *                                       registered.
    */
   public void registerCommand(final ICommand command) {
-    if (this.commands.stream().map(ICommand::getInvokes)
-            .anyMatch(invoke -> Arrays.equals(invoke, command.getInvokes()))) {
-      throw new UnsupportedOperationException("Duplicate invokes.");
+    this.commandTrie.updateAndGet(trie -> trie.insert(command));
+  }
+
+  /**
+   * Registers the methods of an object annotated with {@link Subcommand} as {@link ICommand}s.
+   * The methods and their annotations are bound once, so handling a subcommand costs about
+   * the same as handling a command implementing {@link ICommand} directly.
+   * Note: Safe to be called while other threads are handling commands. Either all or none of
+   * the subcommands are registered.
+   *
+   * @param subcommands The object declaring the subcommands.
+   * @return The registered commands, e.g. to unregister them later.
+   * @throws IllegalArgumentException      if an annotated method does not have the signature
+   *                                       of a subcommand or there are no annotated methods.
+   * @throws UnsupportedOperationException if a command with the same invokes is already
+   *                                       registered.
+   */
+  public List<ICommand> registerSubcommands(final Object subcommands) {
+    final List<ICommand> commands = AnnotatedCommand.of(subcommands);
+
+    registerCommands(commands);
+    return commands;
+  }
+
+  /**
+   * Registers {@link ICommand}s at once.
+   * The commands are sorted once and every node of the command lookup is built once, so
+   * registering many commands is considerably faster than calling
+   * {@link #registerCommand(ICommand)} for each of them.
+   * Note: Safe to be called while other threads are handling commands. Either all or none of
+   * the commands are registered.
+   *
+   * @param commands The commands to be added.
+   * @throws UnsupportedOperationException if a command with the same invokes is already
+   *                                       registered or two of the commands have the same
+   *                                       invokes.
+   */
+  public void registerCommands(final Collection<? extends ICommand> commands) {
+    this.commandTrie.updateAndGet(trie -> trie.insertAll(commands));
+  }
+
+  /**
+   * Registers the {@link ICommand}s of a {@link CommandIndex} generated at compile time.
+   * Note: Safe to be called while other threads are handling commands. Either all or none of
+   * the commands are registered.
+   *
+   * @param commandIndex The index of the commands to be added.
+   * @throws UnsupportedOperationException if a command with the same invokes is already
+   *                                       registered.
+   * @throws IllegalArgumentException      if the invokes of a command do not match its
+   *                                       {@link de.alphaconqueror.alphacommandcore
+   *                                       .commandhandling.annotations.IndexedCommand}
+   *                                       annotation.
+   */
+  public void registerCommands(final CommandIndex commandIndex) {
+    registerCommands(commandIndex.createCommands());
+  }
+
+  /**
+   * Registers the {@link ICommand}s of all {@link CommandIndex}es generated at compile time
+   * and visible to a class loader.
+   * Note: Safe to be called while other threads are handling commands. Either all or none of
+   * the commands are registered.
+   *
+   * @param classLoader The class loader to look the indexes up with.
+   * @return The registered commands.
+   * @throws UnsupportedOperationException if a command with the same invokes is already
+   *                                       registered or two indexes contain commands with the
+   *                                       same invokes.
+   * @throws IllegalArgumentException      if the invokes of a command do not match its
+   *                                       {@link de.alphaconqueror.alphacommandcore
+   *                                       .commandhandling.annotations.IndexedCommand}
+   *                                       annotation.
+   */
+  public List<ICommand> registerIndexedCommands(final ClassLoader classLoader) {
+    final List<ICommand> commands = new ArrayList<>();
+
+    for (final CommandIndex commandIndex : ServiceLoader.load(CommandIndex.class, classLoader)) {
+      commands.addAll(commandIndex.createCommands());
     }
 
-    this.commands.add(command);
-    this.commands.sort(Comparator.comparingInt(cmd -> cmd.getInvokes().length));
-    Collections.reverse(this.commands);
+    registerCommands(commands);
+    return commands;
+  }
+
+  /**
+   * Unregisters a {@link ICommand} and removes its per-command {@link CommandMetrics} and its
+   * results cached by the {@link ResultCache}.
+   * Note: Safe to be called while other threads are handling commands.
+   *
+   * @param command The command to be removed.
+   * @return True, if the command has been registered, false, if otherwise.
+   */
+  public boolean unregisterCommand(final ICommand command) {
+    CommandTrie trie;
+    CommandTrie updatedTrie;
+
+    do {
+      trie = this.commandTrie.get();
+      updatedTrie = trie.remove(command);
+
+      if (updatedTrie == trie) {
+        return false;
+      }
+    } while (!this.commandTrie.compareAndSet(trie, updatedTrie));
+
+    final CommandMetrics metrics = this.metrics;
+
+    if (metrics != null) {
+      metrics.removeCommand(command);
+    }
+
+    final ResultCache resultCache = this.resultCache;
+
+    if (resultCache != null) {
+      resultCache.invalidate(command);
+    }
+
+    return true;
   }
 
   /**
    * Gets a {@link List} of {@link ICommand}s related to their invokes.
    *
-   * @return A copy of a list containing commands related to their invokes.
+   * @return An unmodifiable snapshot of a list containing commands related to their invokes.
    */
   public List<ICommand> getCommands() {
-    return List.copyOf(this.commands);
+    return this.commandTrie.get().getCommands();
   }
 
   /**
@@ -266,7 +981,7 @@ public class CommandHandler {
   /**
    * Gets the default invokes.
    *
-   * @return The default invokes.
+   * @return An unmodifiable list of the default invokes.
    */
   public List<String> getDefaultInvokes() {
     return this.defaultInvokes;
@@ -289,4 +1004,143 @@ public class CommandHandler {
   public boolean isIgnoringBlanks() {
     return this.ignoreBlanks;
   }
+
+  /**
+   * Gets the {@link Executor} used to execute commands handled asynchronously.
+   *
+   * @return The executor.
+   */
+  public Executor getExecutor() {
+    return this.executor;
+  }
+
+  /**
+   * Gets the number of invocations rejected because the bulkhead of their command was full.
+   *
+   * @return The number of bulkhead rejections.
+   */
+  public long getBulkheadRejectionCount() {
+    return this.bulkheadRejections.sum();
+  }
+
+  /**
+   * Gets the number of invocations that did not finish within the timeout of their command.
+   *
+   * @return The number of timeouts.
+   */
+  public long getTimeoutCount() {
+    return this.timeouts.sum();
+  }
+
+  /**
+   * Gets the {@link RateLimiter} applied to every command handled by this command handler.
+   *
+   * @return The rate limiter, null, if there is none.
+   */
+  public RateLimiter getRateLimiter() {
+    return this.rateLimiter;
+  }
+
+  /**
+   * Gets how the events of messages handled in a batch are published.
+   *
+   * @return The batch event mode.
+   */
+  public BatchEventMode getBatchEventMode() {
+    return this.batchEventMode;
+  }
+
+  /**
+   * Gets the {@link CommandMetrics} recording the dispatch of this command handler.
+   *
+   * @return The metrics, null, if recording is disabled.
+   */
+  public CommandMetrics getMetrics() {
+    return this.metrics;
+  }
+
+  /**
+   * Gets the filter deciding for which {@link ICommandResult}s a {@link CommandCalledEvent} is
+   * published.
+   *
+   * @return The event filter, null, if an event is published for every result.
+   */
+  public Predicate<? super ICommandResult> getEventFilter() {
+    return this.eventFilter;
+  }
+
+  /**
+   * Gets the maximum Levenshtein distance of the invokes suggested with
+   * {@link ICommandResult.ErrorCommandNotFound}.
+   *
+   * @return The maximum distance, 0, if suggestions are disabled.
+   */
+  public int getMaxSuggestionDistance() {
+    return this.maxSuggestionDistance;
+  }
+
+  /**
+   * Gets the maximum number of invokes suggested with
+   * {@link ICommandResult.ErrorCommandNotFound}.
+   *
+   * @return The maximum number of suggestions.
+   */
+  public int getMaxSuggestions() {
+    return this.maxSuggestions;
+  }
+
+  /**
+   * Gets the {@link PermissionCache} used to check the permissions required by commands.
+   *
+   * @return The permission cache, null, if the sender is asked on every check.
+   */
+  public PermissionCache getPermissionCache() {
+    return this.permissionCache;
+  }
+
+  /**
+   * Gets the {@link ResultCache} memoizing the results of commands declared {@link Cacheable}.
+   *
+   * @return The result cache, null, if results are never cached.
+   */
+  public ResultCache getResultCache() {
+    return this.resultCache;
+  }
+
+  /**
+   * Gets the {@link AsyncEventPublisher} publishing the events of this command handler.
+   *
+   * @return The event publisher, null, if events are published on the thread handling the
+   *         command.
+   */
+  public AsyncEventPublisher getEventPublisher() {
+    return this.eventPublisher;
+  }
+
+  /**
+   * Checks if invokes and default invokes are matched case-insensitively.
+   *
+   * @return True, if the case is ignored, false, if otherwise.
+   */
+  public boolean isIgnoringCase() {
+    return this.commandTrie.get().isIgnoringCase();
+  }
+
+  /**
+   * Checks if quoted strings should be kept as one argument.
+   *
+   * @return True, if quoted strings should be kept as one argument, false, if otherwise.
+   */
+  public boolean isParsingQuotes() {
+    return this.parseQuotes;
+  }
+
+  /**
+   * Gets the {@link MessageTokenizer} used to split messages.
+   *
+   * @return The tokenizer.
+   */
+  public MessageTokenizer getTokenizer() {
+    return this.tokenizer;
+  }
 }
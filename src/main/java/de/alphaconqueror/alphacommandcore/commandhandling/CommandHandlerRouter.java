@@ -0,0 +1,211 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Routes messages to the {@link CommandHandler} with the longest call symbol the message
+ * starts with, using a prefix tree over the characters of the call symbols.
+ * The prefix tree is immutable and replaced atomically on modification, so routing never
+ * blocks and is safe while command handlers are added or removed.
+ */
+public final class CommandHandlerRouter {
+
+  private final AtomicReference<Snapshot> snapshot =
+          new AtomicReference<>(new Snapshot(Node.EMPTY, List.of()));
+
+  /**
+   * Adds a {@link CommandHandler} to the router.
+   *
+   * @param commandHandler The command handler to be added.
+   * @throws UnsupportedOperationException if the command handler has the same call symbol
+   *                                       as an existing command handler.
+   */
+  public void add(final CommandHandler commandHandler) {
+    this.snapshot.updateAndGet(snapshot -> snapshot.add(commandHandler));
+  }
+
+  /**
+   * Removes a {@link CommandHandler} from the router.
+   *
+   * @param commandHandler The command handler to be removed.
+   * @return True, if the command handler has been added, false, if otherwise.
+   */
+  public boolean remove(final CommandHandler commandHandler) {
+    Snapshot snapshot;
+    Snapshot updatedSnapshot;
+
+    do {
+      snapshot = this.snapshot.get();
+      updatedSnapshot = snapshot.remove(commandHandler);
+
+      if (updatedSnapshot == snapshot) {
+        return false;
+      }
+    } while (!this.snapshot.compareAndSet(snapshot, updatedSnapshot));
+
+    return true;
+  }
+
+  /**
+   * Finds the {@link CommandHandler} with the longest call symbol the message starts with.
+   *
+   * @param message The message to be routed.
+   * @return The command handler responsible for the message, null, if there is none.
+   */
+  public CommandHandler route(final CharSequence message) {
+    Node node = this.snapshot.get().root;
+    CommandHandler match = node.commandHandler;
+
+    for (int i = 0; i < message.length(); i++) {
+      node = node.getChild(message.charAt(i));
+
+      if (node == null) {
+        break;
+      }
+
+      if (node.commandHandler != null) {
+        match = node.commandHandler;
+      }
+    }
+
+    return match;
+  }
+
+  /**
+   * Gets the {@link CommandHandler}s reverse sorted after the length of the call symbol.
+   *
+   * @return An unmodifiable snapshot of the command handlers.
+   */
+  public List<CommandHandler> getCommandHandlers() {
+    return this.snapshot.get().commandHandlers;
+  }
+
+  /**
+   * The immutable state of a {@link CommandHandlerRouter}.
+   */
+  private static final class Snapshot {
+
+    private final Node root;
+    private final List<CommandHandler> commandHandlers;
+
+    private Snapshot(final Node root, final List<CommandHandler> commandHandlers) {
+      this.root = root;
+      this.commandHandlers = commandHandlers;
+    }
+
+    private Snapshot add(final CommandHandler commandHandler) {
+      final String callSymbol = commandHandler.getCallSymbol();
+      final List<CommandHandler> commandHandlers =
+              new ArrayList<>(this.commandHandlers.size() + 1);
+      int index = 0;
+
+      while (index < this.commandHandlers.size()
+              && this.commandHandlers.get(index).getCallSymbol().length()
+              >= callSymbol.length()) {
+        index++;
+      }
+
+      commandHandlers.addAll(this.commandHandlers);
+      commandHandlers.add(index, commandHandler);
+
+      return new Snapshot(this.root.with(callSymbol, 0, commandHandler),
+              Collections.unmodifiableList(commandHandlers));
+    }
+
+    private Snapshot remove(final CommandHandler commandHandler) {
+      if (!this.commandHandlers.contains(commandHandler)) {
+        return this;
+      }
+
+      final List<CommandHandler> commandHandlers = new ArrayList<>(this.commandHandlers);
+
+      commandHandlers.remove(commandHandler);
+
+      return new Snapshot(this.root.with(commandHandler.getCallSymbol(), 0, null),
+              Collections.unmodifiableList(commandHandlers));
+    }
+  }
+
+  /**
+   * An immutable node of the {@link CommandHandlerRouter} with its children sorted by their
+   * character.
+   */
+  private static final class Node {
+
+    private static final Node EMPTY = new Node(new char[0], new Node[0], null);
+
+    private final char[] keys;
+    private final Node[] children;
+    private final CommandHandler commandHandler;
+
+    private Node(final char[] keys, final Node[] children, final CommandHandler commandHandler) {
+      this.keys = keys;
+      this.children = children;
+      this.commandHandler = commandHandler;
+    }
+
+    private Node getChild(final char key) {
+      final int index = Arrays.binarySearch(this.keys, key);
+
+      return index < 0 ? null : this.children[index];
+    }
+
+    /**
+     * Creates a copy of the path to a call symbol with the {@link CommandHandler} at its end
+     * replaced.
+     *
+     * @param callSymbol     The call symbol describing the path.
+     * @param depth          The index of the character of this node in the call symbol.
+     * @param commandHandler The new command handler, null, to remove the existing one.
+     * @return The copied node.
+     * @throws UnsupportedOperationException if a command handler is to be added to a call symbol
+     *                                       which already has one.
+     */
+    private Node with(final String callSymbol, final int depth,
+            final CommandHandler commandHandler) {
+      if (depth == callSymbol.length()) {
+        if (commandHandler != null && this.commandHandler != null) {
+          throw new UnsupportedOperationException("Duplicate call symbol.");
+        }
+
+        return new Node(this.keys, this.children, commandHandler);
+      }
+
+      final char key = callSymbol.charAt(depth);
+      final int index = Arrays.binarySearch(this.keys, key);
+
+      if (index >= 0) {
+        final Node[] children = this.children.clone();
+
+        children[index] = this.children[index].with(callSymbol, depth + 1, commandHandler);
+
+        return new Node(this.keys, children, this.commandHandler);
+      }
+
+      final int insertionIndex = -index - 1;
+      final char[] keys = new char[this.keys.length + 1];
+      final Node[] children = new Node[this.children.length + 1];
+
+      System.arraycopy(this.keys, 0, keys, 0, insertionIndex);
+      System.arraycopy(this.keys, insertionIndex, keys, insertionIndex + 1,
+              this.keys.length - insertionIndex);
+      System.arraycopy(this.children, 0, children, 0, insertionIndex);
+      System.arraycopy(this.children, insertionIndex, children, insertionIndex + 1,
+              this.children.length - insertionIndex);
+      keys[insertionIndex] = key;
+      children[insertionIndex] = EMPTY.with(callSymbol, depth + 1, commandHandler);
+
+      return new Node(keys, children, this.commandHandler);
+    }
+  }
+}
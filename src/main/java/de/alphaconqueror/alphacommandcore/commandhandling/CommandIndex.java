@@ -0,0 +1,49 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A table of {@link ICommand}s generated at compile time by the command index annotation
+ * processor from all classes annotated with
+ * {@link de.alphaconqueror.alphacommandcore.commandhandling.annotations.IndexedCommand}.
+ * The processor has already checked the invokes for duplicates and sorted the commands, so
+ * {@link CommandHandler#registerCommands(CommandIndex)} registers them in one step without
+ * sorting them again.
+ * Generated indexes are registered as services, see
+ * {@link CommandHandler#registerIndexedCommands(ClassLoader)}.
+ */
+public interface CommandIndex {
+
+  /**
+   * Creates a new instance of every indexed {@link ICommand}.
+   *
+   * @return The commands reverse sorted after the length of their invokes.
+   */
+  List<ICommand> createCommands();
+
+  /**
+   * Checks, if the invokes of an indexed {@link ICommand} match the ones of its annotation.
+   * Called by the generated indexes for every command they create.
+   *
+   * @param command The created command.
+   * @param invokes The invokes of its annotation.
+   * @return The command.
+   * @throws IllegalArgumentException if the invokes do not match.
+   */
+  static ICommand checkInvokes(final ICommand command, final String... invokes) {
+    if (!Arrays.equals(command.getInvokes(), invokes)) {
+      throw new IllegalArgumentException("Invokes " + Arrays.toString(command.getInvokes())
+              + " of " + command.getClass().getName() + " do not match its indexed invokes "
+              + Arrays.toString(invokes) + ".");
+    }
+
+    return command;
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Bulkhead;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Cacheable;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.OnlyAllowedSenders;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.PermissionRequired;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.RateLimit;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Timeout;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ParsedArguments;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The annotation metadata of the handle method of a {@link ICommand} class.
+ * Resolved once per class, so dispatching a command does not need any reflection.
+ */
+final class CommandMetadata {
+
+  private static final ClassValue<CommandMetadata> CACHE = new ClassValue<>() {
+    @Override
+    protected CommandMetadata computeValue(final Class<?> type) {
+      return resolve(type);
+    }
+  };
+
+  private static final ICommandResult.ErrorIllegalSender ERROR_NO_SENDER =
+          new ICommandResult.ErrorIllegalSender(null);
+  private static final List<Class<? extends Annotation>> ANNOTATIONS = List.of(
+          OnlyAllowedSenders.class, PermissionRequired.class, RateLimit.class, Cacheable.class,
+          Bulkhead.class, Timeout.class);
+
+  private final Method method;
+  private final Set<String> allowedSenders;
+  private final String permission;
+  private final ICommandResult.ErrorPermission errorPermission;
+  private final RateLimit rateLimit;
+  private final Cacheable cacheable;
+  private final Bulkhead bulkhead;
+  private final Timeout timeout;
+
+  private CommandMetadata(final Method method, final Set<String> allowedSenders,
+          final String permission, final RateLimit rateLimit, final Cacheable cacheable,
+          final Bulkhead bulkhead, final Timeout timeout) {
+    this.method = method;
+    this.allowedSenders = allowedSenders;
+    this.permission = permission;
+    this.errorPermission = permission == null ? null
+            : new ICommandResult.ErrorPermission(permission);
+    this.rateLimit = rateLimit;
+    this.cacheable = cacheable;
+    this.bulkhead = bulkhead;
+    this.timeout = timeout;
+  }
+
+  /**
+   * Gets the cached metadata of a {@link ICommand}.
+   *
+   * @param command The command to get the metadata of.
+   * @return The metadata of the command's class.
+   * @throws IllegalArgumentException if the handle method of the command's class can not be
+   *                                  resolved.
+   */
+  static CommandMetadata of(final ICommand command) {
+    return command instanceof AnnotatedCommand ? ((AnnotatedCommand) command).getMetadata()
+            : CACHE.get(command.getClass());
+  }
+
+  /**
+   * Resolves the metadata of a method annotated as a command.
+   *
+   * @param method The method to read the annotations of.
+   * @return The metadata of the method.
+   */
+  static CommandMetadata of(final Method method) {
+    final OnlyAllowedSenders onlyAllowedSenders = method.getAnnotation(OnlyAllowedSenders.class);
+    final PermissionRequired permissionRequired = method.getAnnotation(PermissionRequired.class);
+
+    return new CommandMetadata(method, onlyAllowedSenders == null ? null
+            : Collections.unmodifiableSet(
+                    new HashSet<>(Arrays.asList(onlyAllowedSenders.identifiers()))),
+            permissionRequired == null ? null : permissionRequired.permission(),
+            method.getAnnotation(RateLimit.class), method.getAnnotation(Cacheable.class),
+            method.getAnnotation(Bulkhead.class), method.getAnnotation(Timeout.class));
+  }
+
+  private static CommandMetadata resolve(final Class<?> type) {
+    try {
+      return of(ITypedCommand.class.isAssignableFrom(type)
+              ? type.getMethod("handle", ICommandSender.class, ParsedArguments.class)
+              : resolveHandleMethod(type));
+    } catch (final NoSuchMethodException e) {
+      throw new IllegalArgumentException("Command " + type.getName()
+              + " has no handle method.", e);
+    }
+  }
+
+  /**
+   * Resolves the handle method of a {@link ICommand} class carrying its annotations.
+   *
+   * @param type The class of the command.
+   * @return The overridden {@link ICommand#handle(ICommandSender, CommandArgs)}, if it is
+   *         annotated, {@link ICommand#handle(ICommandSender, String[])}, if otherwise.
+   * @throws NoSuchMethodException if the class does not implement {@link ICommand}.
+   */
+  private static Method resolveHandleMethod(final Class<?> type) throws NoSuchMethodException {
+    final Method viewMethod = type.getMethod("handle", ICommandSender.class, CommandArgs.class);
+
+    if (viewMethod.getDeclaringClass() != ICommand.class
+            && ANNOTATIONS.stream().anyMatch(viewMethod::isAnnotationPresent)) {
+      return viewMethod;
+    }
+
+    return type.getMethod("handle", ICommandSender.class, String[].class);
+  }
+
+  /**
+   * Checks, if a {@link ICommandSender} is allowed to execute the command.
+   *
+   * @param sender          The sender trying to execute the command.
+   * @param permissionCache The cache to look the permission up in, null, to ask the sender.
+   * @return The {@link ICommandResult} describing why the sender is not allowed to execute
+   *         the command, null, if it is allowed to.
+   */
+  ICommandResult authorize(final ICommandSender sender, final PermissionCache permissionCache) {
+    if (this.allowedSenders != null) {
+      if (sender == null) {
+        return ERROR_NO_SENDER;
+      }
+
+      if (!this.allowedSenders.contains(sender.getIdentifier())) {
+        return new ICommandResult.ErrorIllegalSender(sender.getClass());
+      }
+    }
+
+    if (this.permission != null
+            && (sender == null || !hasPermission(sender, permissionCache))) {
+      return this.errorPermission;
+    }
+
+    return null;
+  }
+
+  /**
+   * Checks, if a {@link ICommandSender} passes the sender and permission checks of the command
+   * without creating a result.
+   *
+   * @param sender          The sender to be checked.
+   * @param permissionCache The cache to look the permission up in, null, to ask the sender.
+   * @return True, if the sender is allowed to execute the command, false, if otherwise.
+   */
+  boolean isPermitted(final ICommandSender sender, final PermissionCache permissionCache) {
+    if (!isRestricted()) {
+      return true;
+    }
+
+    return sender != null
+            && (this.allowedSenders == null || this.allowedSenders.contains(sender.getIdentifier()))
+            && (this.permission == null || hasPermission(sender, permissionCache));
+  }
+
+  private boolean hasPermission(final ICommandSender sender,
+          final PermissionCache permissionCache) {
+    return permissionCache == null ? sender.hasPermission(this.permission)
+            : permissionCache.hasPermission(sender, this.permission);
+  }
+
+  /**
+   * Checks, if the command is restricted to some senders or to a permission.
+   *
+   * @return True, if not every sender is allowed to execute the command, false, if otherwise.
+   */
+  boolean isRestricted() {
+    return this.allowedSenders != null || this.permission != null;
+  }
+
+  /**
+   * Gets the resolved handle method.
+   *
+   * @return The handle method, null, if it could not be resolved.
+   */
+  Method getMethod() {
+    return this.method;
+  }
+
+  /**
+   * Gets the identifiers of the {@link ICommandSender}s allowed to execute the command.
+   *
+   * @return The allowed sender identifiers, null, if every sender is allowed.
+   */
+  Set<String> getAllowedSenders() {
+    return this.allowedSenders;
+  }
+
+  /**
+   * Gets the permission required to execute the command.
+   *
+   * @return The required permission, null, if no permission is required.
+   */
+  String getPermission() {
+    return this.permission;
+  }
+
+  /**
+   * Gets the rate limit of the command.
+   *
+   * @return The rate limit, null, if the command is not rate limited.
+   */
+  RateLimit getRateLimit() {
+    return this.rateLimit;
+  }
+
+  /**
+   * Gets the cache declaration of the command.
+   *
+   * @return The cache declaration, null, if the results of the command must not be cached.
+   */
+  Cacheable getCacheable() {
+    return this.cacheable;
+  }
+
+  /**
+   * Gets the concurrency limit of the command.
+   *
+   * @return The bulkhead, null, if the invocations of the command are not limited.
+   */
+  Bulkhead getBulkhead() {
+    return this.bulkhead;
+  }
+
+  /**
+   * Gets the execution timeout of the command.
+   *
+   * @return The timeout, null, if the caller waits for the command to finish.
+   */
+  Timeout getTimeout() {
+    return this.timeout;
+  }
+}
@@ -0,0 +1,616 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * An immutable prefix tree of {@link ICommand}s keyed on their invokes, one invoke per level.
+ * Resolves the command with the longest matching invokes in O(invoke depth) and completes
+ * invokes by binary searching the sorted invokes of a node. Aliases of a command lead to the
+ * same node contents as its invokes.
+ * Modifications copy the nodes along the modified path and return a new trie, so a trie can be
+ * read by any number of threads while a modified version is being built.
+ */
+final class CommandTrie {
+
+  private static final Comparator<ICommand> BY_INVOKES_LENGTH_DESCENDING =
+          Comparator.comparingInt((ICommand command) -> command.getInvokes().length).reversed();
+
+  /**
+   * The trie not containing any commands, matching invokes case-sensitively.
+   */
+  static final CommandTrie EMPTY = new CommandTrie(false);
+
+  /**
+   * The trie not containing any commands, matching invokes case-insensitively.
+   */
+  static final CommandTrie EMPTY_IGNORING_CASE = new CommandTrie(true);
+
+  private final Node root;
+  private final List<ICommand> commands;
+  private final boolean ignoreCase;
+  private volatile FuzzyIndex fuzzyIndex;
+
+  private CommandTrie(final boolean ignoreCase) {
+    this(new Node(0, Map.of(), null), List.of(), ignoreCase);
+  }
+
+  private CommandTrie(final Node root, final List<ICommand> commands,
+          final boolean ignoreCase) {
+    this.root = root;
+    this.commands = commands;
+    this.ignoreCase = ignoreCase;
+  }
+
+  /**
+   * Creates a trie containing the same {@link ICommand}s, matching invokes either
+   * case-sensitively or case-insensitively.
+   * Note: The {@link RegisteredCommand}s are carried over, so their state, e.g. rate limits and
+   * running invocations, is kept.
+   *
+   * @param ignoreCase True, if invokes should be matched case-insensitively, false, if
+   *                   otherwise.
+   * @return The trie matching invokes as requested, this trie, if it already does.
+   * @throws UnsupportedOperationException if two commands have the same invokes ignoring case.
+   */
+  CommandTrie withIgnoreCase(final boolean ignoreCase) {
+    if (ignoreCase == this.ignoreCase) {
+      return this;
+    }
+
+    final List<RegisteredCommand> registeredCommands = new ArrayList<>(this.commands.size());
+
+    for (final ICommand command : this.commands) {
+      registeredCommands.add(find(normalize(command.getInvokes())).registeredCommand);
+    }
+
+    return (ignoreCase ? EMPTY_IGNORING_CASE : EMPTY).insertSorted(registeredCommands);
+  }
+
+  /**
+   * Creates a trie additionally containing a {@link ICommand} at the paths described by its
+   * invokes and its aliases.
+   *
+   * @param command The command to be inserted.
+   * @return The trie containing the command.
+   * @throws UnsupportedOperationException if a command with the same invokes already exists.
+   */
+  CommandTrie insert(final ICommand command) {
+    final String[] invokes = command.getInvokes();
+    final List<ICommand> commands = new ArrayList<>(this.commands.size() + 1);
+    int index = 0;
+
+    while (index < this.commands.size()
+            && this.commands.get(index).getInvokes().length >= invokes.length) {
+      index++;
+    }
+
+    commands.addAll(this.commands);
+    commands.add(index, command);
+
+    final RegisteredCommand registeredCommand = new RegisteredCommand(command);
+    Node root = this.root;
+
+    for (final String[] path : paths(command)) {
+      root = insert(root, path, registeredCommand);
+    }
+
+    return new CommandTrie(root, Collections.unmodifiableList(commands), this.ignoreCase);
+  }
+
+  /**
+   * Creates a trie additionally containing {@link ICommand}s.
+   * Sorts the commands once, if they are not sorted already, and builds every modified node
+   * once, instead of once per command like repeated {@link #insert(ICommand)}.
+   *
+   * @param commands The commands to be inserted.
+   * @return The trie containing the commands, this trie, if there are none.
+   * @throws UnsupportedOperationException if a command with the same invokes already exists or
+   *                                       two of the commands have the same invokes.
+   */
+  CommandTrie insertAll(final Collection<? extends ICommand> commands) {
+    if (commands.isEmpty()) {
+      return this;
+    }
+
+    final List<ICommand> sortedCommands = new ArrayList<>(commands);
+    final List<RegisteredCommand> registeredCommands = new ArrayList<>(commands.size());
+
+    // commands of a generated index are already sorted
+    if (!isSorted(sortedCommands)) {
+      sortedCommands.sort(BY_INVOKES_LENGTH_DESCENDING);
+    }
+
+    for (final ICommand command : sortedCommands) {
+      registeredCommands.add(new RegisteredCommand(command));
+    }
+
+    return insertSorted(registeredCommands);
+  }
+
+  private static boolean isSorted(final List<ICommand> commands) {
+    for (int i = 1; i < commands.size(); i++) {
+      if (BY_INVOKES_LENGTH_DESCENDING.compare(commands.get(i - 1), commands.get(i)) > 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Creates a trie additionally containing {@link RegisteredCommand}s.
+   *
+   * @param registeredCommands The commands to be inserted, reverse sorted after the length of
+   *                           their invokes.
+   * @return The trie containing the commands, this trie, if there are none.
+   * @throws UnsupportedOperationException if a command with the same invokes already exists or
+   *                                       two of the commands have the same invokes.
+   */
+  private CommandTrie insertSorted(final List<RegisteredCommand> registeredCommands) {
+    if (registeredCommands.isEmpty()) {
+      return this;
+    }
+
+    final List<ICommand> addedCommands = new ArrayList<>(registeredCommands.size());
+    final Builder root = new Builder(0, this.root);
+
+    for (final RegisteredCommand registeredCommand : registeredCommands) {
+      final ICommand command = registeredCommand.getCommand();
+
+      addedCommands.add(command);
+
+      for (final String[] path : paths(command)) {
+        root.insert(path, registeredCommand);
+      }
+    }
+
+    return new CommandTrie(root.build(),
+            Collections.unmodifiableList(merge(this.commands, addedCommands)),
+            this.ignoreCase);
+  }
+
+  /**
+   * Merges two lists of {@link ICommand}s reverse sorted after the length of their invokes,
+   * keeping the commands of the first list in front of the commands with invokes of the same
+   * length of the second list.
+   */
+  private static List<ICommand> merge(final List<ICommand> commands,
+          final List<ICommand> addedCommands) {
+    final List<ICommand> merged = new ArrayList<>(commands.size() + addedCommands.size());
+    int index = 0;
+
+    for (final ICommand addedCommand : addedCommands) {
+      final int length = addedCommand.getInvokes().length;
+
+      while (index < commands.size() && commands.get(index).getInvokes().length >= length) {
+        merged.add(commands.get(index++));
+      }
+
+      merged.add(addedCommand);
+    }
+
+    merged.addAll(commands.subList(index, commands.size()));
+    return merged;
+  }
+
+  private Node insert(final Node node, final String[] invokes,
+          final RegisteredCommand registeredCommand) {
+    final int depth = node.depth;
+
+    if (depth == invokes.length) {
+      if (node.command != null) {
+        throw new UnsupportedOperationException("Duplicate invokes.");
+      }
+
+      return new Node(depth, node.children, registeredCommand);
+    }
+
+    final Node child = node.children.get(invokes[depth]);
+    final Map<String, Node> children = copyChildren(node.children);
+
+    children.put(invokes[depth], insert(child == null ? new Node(depth + 1, Map.of(), null)
+            : child, invokes, registeredCommand));
+
+    return new Node(depth, children, node.registeredCommand);
+  }
+
+  /**
+   * Creates a trie not containing a {@link ICommand} anymore.
+   *
+   * @param command The command to be removed.
+   * @return The trie without the command, this trie, if it does not contain the command.
+   */
+  CommandTrie remove(final ICommand command) {
+    final Node node = find(normalize(command.getInvokes()));
+
+    if (node == null || node.command != command) {
+      return this;
+    }
+
+    final List<ICommand> commands = new ArrayList<>(this.commands);
+    Node root = this.root;
+
+    commands.remove(command);
+
+    for (final String[] path : paths(command)) {
+      final Node pathNode = find(path);
+
+      if (pathNode != null && pathNode.command == command) {
+        root = remove(root, path);
+      }
+
+      if (root == null) {
+        return this.ignoreCase ? EMPTY_IGNORING_CASE : EMPTY;
+      }
+    }
+
+    return new CommandTrie(root, Collections.unmodifiableList(commands), this.ignoreCase);
+  }
+
+  private Node remove(final Node node, final String[] invokes) {
+    final int depth = node.depth;
+
+    if (depth == invokes.length) {
+      return node.children.isEmpty() ? null : new Node(depth, node.children, null);
+    }
+
+    final Node child = remove(node.children.get(invokes[depth]), invokes);
+    final Map<String, Node> children = copyChildren(node.children);
+
+    if (child == null) {
+      children.remove(invokes[depth]);
+    } else {
+      children.put(invokes[depth], child);
+    }
+
+    return children.isEmpty() && node.command == null ? null
+            : new Node(depth, children, node.registeredCommand);
+  }
+
+  private Node find(final String[] invokes) {
+    Node node = this.root;
+
+    for (int i = 0; i < invokes.length && node != null; i++) {
+      node = node.children.get(invokes[i]);
+    }
+
+    return node;
+  }
+
+  /**
+   * Copies the children of a node into a map matching keys as this trie does. Keys are
+   * compared ignoring case by {@link String#CASE_INSENSITIVE_ORDER}, so looking up an argument
+   * does not need a lowercased copy of it.
+   */
+  private Map<String, Node> copyChildren(final Map<String, Node> nodeChildren) {
+    if (!this.ignoreCase) {
+      return new HashMap<>(nodeChildren);
+    }
+
+    final Map<String, Node> children = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    children.putAll(nodeChildren);
+    return children;
+  }
+
+  private List<String[]> paths(final ICommand command) {
+    final String[][] aliases = command.getAliases();
+    final List<String[]> paths = new ArrayList<>(aliases.length + 1);
+
+    paths.add(normalize(command.getInvokes()));
+
+    for (final String[] alias : aliases) {
+      paths.add(normalize(alias));
+    }
+
+    return paths;
+  }
+
+  private String[] normalize(final String[] invokes) {
+    if (!this.ignoreCase) {
+      return invokes;
+    }
+
+    final String[] normalized = new String[invokes.length];
+
+    for (int i = 0; i < invokes.length; i++) {
+      normalized[i] = invokes[i].toLowerCase(Locale.ROOT);
+    }
+
+    return normalized;
+  }
+
+  /**
+   * Finds the node of the {@link ICommand} with the longest invokes matching the arguments.
+   *
+   * @param args   The arguments of the parsed message.
+   * @param offset The index of the first argument to be matched.
+   * @return The node of the matching command, null, if no command matches.
+   */
+  Node findLongestMatch(final CommandArgs args, final int offset) {
+    Node node = this.root;
+    Node match = node.command == null ? null : node;
+
+    for (int i = offset; i < args.size(); i++) {
+      node = node.children.get(args.get(i));
+
+      if (node == null) {
+        break;
+      }
+
+      if (node.command != null) {
+        match = node;
+      }
+    }
+
+    return match;
+  }
+
+  /**
+   * Collects the invokes completing a prefix after following the given invokes, leading to at
+   * least one {@link ICommand} a {@link ICommandSender} is allowed to execute.
+   *
+   * @param args            The arguments containing the invokes to be followed.
+   * @param offset          The index of the first invoke to be followed.
+   * @param length          The number of invokes to be followed.
+   * @param prefix          The prefix of the invoke to be completed.
+   * @param sender          The sender requesting the completions.
+   * @param permissionCache The cache to look permissions up in, null, to ask the sender.
+   * @param limit           The maximum number of completions.
+   * @param completions     The list to add the completions to in lexicographical order.
+   */
+  void complete(final String[] args, final int offset, final int length, final String prefix,
+          final ICommandSender sender, final PermissionCache permissionCache, final int limit,
+          final List<String> completions) {
+    Node node = this.root;
+
+    for (int i = offset; i < offset + length && node != null; i++) {
+      node = node.children.get(args[i]);
+    }
+
+    if (node == null) {
+      return;
+    }
+
+    final String[] keys = node.keys;
+    int index = this.ignoreCase
+            ? Arrays.binarySearch(keys, prefix, String.CASE_INSENSITIVE_ORDER)
+            : Arrays.binarySearch(keys, prefix);
+
+    for (index = index < 0 ? -index - 1 : index; index < keys.length
+            && completions.size() < limit
+            && keys[index].regionMatches(this.ignoreCase, 0, prefix, 0, prefix.length());
+            index++) {
+      if (node.children.get(keys[index]).isVisibleTo(sender, permissionCache)) {
+        completions.add(keys[index]);
+      }
+    }
+  }
+
+  /**
+   * Finds the invokes of the {@link ICommand}s similar to the leading arguments of a message
+   * no command could be found for.
+   *
+   * @param args            The arguments no command could be found for.
+   * @param maxDistance     The maximum Levenshtein distance of a similar invoke.
+   * @param limit           The maximum number of similar invokes.
+   * @param sender          The {@link ICommandSender}, whose allowed commands are suggested
+   *                        only.
+   * @param permissionCache The cache to look permissions up in, null, to ask the sender.
+   * @return The similar invokes joined by spaces, closest first.
+   */
+  List<String> findSimilar(final String[] args, final int maxDistance, final int limit,
+          final ICommandSender sender, final PermissionCache permissionCache) {
+    final List<String> similar = new ArrayList<>(Math.min(limit, 16));
+
+    getFuzzyIndex().findSimilar(normalize(args), maxDistance, limit, sender, permissionCache,
+            similar);
+
+    return similar;
+  }
+
+  /**
+   * Gets the {@link FuzzyIndex} of the invokes, building it on the first lookup, so tries
+   * never asked for suggestions do not maintain one.
+   * Note: Threads racing on the first lookup may each build an equal index.
+   *
+   * @return The fuzzy index.
+   */
+  private FuzzyIndex getFuzzyIndex() {
+    FuzzyIndex fuzzyIndex = this.fuzzyIndex;
+
+    if (fuzzyIndex == null) {
+      fuzzyIndex = FuzzyIndex.EMPTY;
+
+      for (final ICommand command : this.commands) {
+        for (final String[] path : paths(command)) {
+          final Node pathNode = find(path);
+
+          if (pathNode != null && pathNode.command == command) {
+            fuzzyIndex = fuzzyIndex.insert(path, pathNode.registeredCommand);
+          }
+        }
+      }
+
+      this.fuzzyIndex = fuzzyIndex;
+    }
+
+    return fuzzyIndex;
+  }
+
+  /**
+   * Checks, if a {@link ICommandSender} is allowed to execute at least one {@link ICommand}.
+   *
+   * @param sender          The sender to be checked.
+   * @param permissionCache The cache to look permissions up in, null, to ask the sender.
+   * @return True, if the sender is allowed to execute a command, false, if otherwise.
+   */
+  boolean isVisibleTo(final ICommandSender sender, final PermissionCache permissionCache) {
+    return this.root.isVisibleTo(sender, permissionCache);
+  }
+
+  /**
+   * Checks, if invokes are matched case-insensitively.
+   *
+   * @return True, if invokes are matched ignoring case, false, if otherwise.
+   */
+  boolean isIgnoringCase() {
+    return this.ignoreCase;
+  }
+
+  /**
+   * Gets the {@link ICommand}s reverse sorted after the length of their invokes.
+   *
+   * @return An unmodifiable list of the commands.
+   */
+  List<ICommand> getCommands() {
+    return this.commands;
+  }
+
+  /**
+   * A mutable copy of a {@link Node} collecting the insertions of
+   * {@link #insertAll(Collection)}. Only the modified children are copied.
+   */
+  private final class Builder {
+
+    private final int depth;
+    private final Node node;
+    private final Map<String, Builder> children = new HashMap<>();
+    private RegisteredCommand registeredCommand;
+
+    private Builder(final int depth, final Node node) {
+      this.depth = depth;
+      this.node = node;
+      this.registeredCommand = node == null ? null : node.registeredCommand;
+    }
+
+    private void insert(final String[] invokes, final RegisteredCommand registeredCommand) {
+      if (this.depth == invokes.length) {
+        if (this.registeredCommand != null) {
+          throw new UnsupportedOperationException("Duplicate invokes.");
+        }
+
+        this.registeredCommand = registeredCommand;
+        return;
+      }
+
+      this.children.computeIfAbsent(invokes[this.depth], key -> new Builder(this.depth + 1,
+              this.node == null ? null : this.node.children.get(key)))
+              .insert(invokes, registeredCommand);
+    }
+
+    private Node build() {
+      final Map<String, Node> children = copyChildren(this.node == null ? Map.of()
+              : this.node.children);
+
+      for (final Map.Entry<String, Builder> child : this.children.entrySet()) {
+        children.put(child.getKey(), child.getValue().build());
+      }
+
+      return new Node(this.depth, children, this.registeredCommand);
+    }
+  }
+
+  /**
+   * A node of the {@link CommandTrie} holding the {@link ICommand} whose invokes end here.
+   */
+  static final class Node {
+
+    private final int depth;
+    private final Map<String, Node> children;
+    private final String[] keys;
+    private final RegisteredCommand registeredCommand;
+    private final ICommand command;
+    private final boolean unrestricted;
+
+    private Node(final int depth, final Map<String, Node> children,
+            final RegisteredCommand registeredCommand) {
+      this.depth = depth;
+      this.children = children;
+      this.keys = children.keySet().toArray(new String[0]);
+      this.registeredCommand = registeredCommand;
+      this.command = registeredCommand == null ? null : registeredCommand.getCommand();
+
+      if (!(children instanceof SortedMap)) {
+        Arrays.sort(this.keys);
+      }
+
+      boolean unrestricted = registeredCommand != null
+              && !registeredCommand.getMetadata().isRestricted();
+
+      for (final Node child : children.values()) {
+        unrestricted |= child.unrestricted;
+      }
+
+      this.unrestricted = unrestricted;
+    }
+
+    /**
+     * Checks, if a {@link ICommandSender} is allowed to execute the command of this node or of
+     * any node below. Subtrees containing a command without restrictions are answered without
+     * visiting them.
+     *
+     * @param sender          The sender to be checked.
+     * @param permissionCache The cache to look permissions up in, null, to ask the sender.
+     * @return True, if the sender is allowed to execute a command, false, if otherwise.
+     */
+    private boolean isVisibleTo(final ICommandSender sender,
+            final PermissionCache permissionCache) {
+      if (this.unrestricted || this.registeredCommand != null
+              && this.registeredCommand.getMetadata().isPermitted(sender, permissionCache)) {
+        return true;
+      }
+
+      for (final Node child : this.children.values()) {
+        if (child.isVisibleTo(sender, permissionCache)) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    /**
+     * Gets the {@link ICommand} whose invokes end at this node.
+     *
+     * @return The command of this node.
+     */
+    ICommand getCommand() {
+      return this.command;
+    }
+
+    /**
+     * Gets the {@link RegisteredCommand} whose invokes end at this node.
+     *
+     * @return The registered command of this node.
+     */
+    RegisteredCommand getRegisteredCommand() {
+      return this.registeredCommand;
+    }
+
+    /**
+     * Gets the number of invokes leading to this node.
+     *
+     * @return The depth of this node.
+     */
+    int getDepth() {
+      return this.depth;
+    }
+  }
+}
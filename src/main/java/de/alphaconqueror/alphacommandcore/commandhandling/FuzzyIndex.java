@@ -0,0 +1,177 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable BK-tree of the invokes of {@link ICommand}s, joined by spaces, under the
+ * Levenshtein distance.
+ * Finds all invokes within a distance of a query while visiting only the subtrees the triangle
+ * inequality can not rule out. Insertions copy the nodes along the path of the new invokes.
+ */
+final class FuzzyIndex {
+
+  /**
+   * The index not containing any invokes.
+   */
+  static final FuzzyIndex EMPTY = new FuzzyIndex(null, 0);
+
+  private final Node root;
+  private final int maxInvokeLength;
+
+  private FuzzyIndex(final Node root, final int maxInvokeLength) {
+    this.root = root;
+    this.maxInvokeLength = maxInvokeLength;
+  }
+
+  /**
+   * Creates an index additionally containing a path of invokes of a {@link RegisteredCommand}.
+   *
+   * @param invokes           The invokes or an alias of the command.
+   * @param registeredCommand The command to be inserted.
+   * @return The index containing the invokes.
+   */
+  FuzzyIndex insert(final String[] invokes, final RegisteredCommand registeredCommand) {
+    final String key = String.join(" ", invokes);
+    final Node root = this.root == null ? new Node(key, registeredCommand, Map.of())
+            : insert(this.root, key, registeredCommand);
+
+    return new FuzzyIndex(root, Math.max(this.maxInvokeLength, invokes.length));
+  }
+
+  private static Node insert(final Node node, final String key,
+          final RegisteredCommand registeredCommand) {
+    final int distance = distance(node.key, key);
+
+    if (distance == 0) {
+      return node;
+    }
+
+    final Node child = node.children.get(distance);
+    final Map<Integer, Node> children = new HashMap<>(node.children);
+
+    children.put(distance, child == null ? new Node(key, registeredCommand, Map.of())
+            : insert(child, key, registeredCommand));
+
+    return new Node(node.key, node.registeredCommand, children);
+  }
+
+  /**
+   * Finds the invokes of the {@link ICommand}s similar to the leading arguments of a message,
+   * trying every number of leading arguments up to the longest indexed invokes.
+   *
+   * @param args            The arguments no command could be found for.
+   * @param maxDistance     The maximum Levenshtein distance of a similar invoke.
+   * @param limit           The maximum number of similar invokes.
+   * @param sender          The {@link ICommandSender}, whose allowed commands are suggested
+   *                        only.
+   * @param permissionCache The cache to look permissions up in, null, to ask the sender.
+   * @param similar         The list to add the similar invokes to, closest first.
+   */
+  void findSimilar(final String[] args, final int maxDistance, final int limit,
+          final ICommandSender sender, final PermissionCache permissionCache,
+          final List<String> similar) {
+    if (this.root == null) {
+      return;
+    }
+
+    final Map<String, Integer> distances = new HashMap<>();
+    final StringBuilder query = new StringBuilder();
+
+    for (int i = 0; i < args.length && i < this.maxInvokeLength; i++) {
+      if (i > 0) {
+        query.append(' ');
+      }
+
+      search(this.root, query.append(args[i]).toString(), maxDistance, sender, permissionCache,
+              distances);
+    }
+
+    distances.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey(Comparator.naturalOrder())))
+            .limit(limit)
+            .forEach(entry -> similar.add(entry.getKey()));
+  }
+
+  private static void search(final Node node, final String query, final int maxDistance,
+          final ICommandSender sender, final PermissionCache permissionCache,
+          final Map<String, Integer> distances) {
+    final int distance = distance(node.key, query);
+
+    if (distance <= maxDistance
+            && node.registeredCommand.getMetadata().isPermitted(sender, permissionCache)) {
+      distances.merge(node.key, distance, Math::min);
+    }
+
+    for (int childDistance = Math.max(1, distance - maxDistance);
+            childDistance <= distance + maxDistance; childDistance++) {
+      final Node child = node.children.get(childDistance);
+
+      if (child != null) {
+        search(child, query, maxDistance, sender, permissionCache, distances);
+      }
+    }
+  }
+
+  /**
+   * Computes the Levenshtein distance of two strings.
+   *
+   * @param first  The first string.
+   * @param second The second string.
+   * @return The minimum number of single character insertions, deletions and substitutions
+   *         turning the first string into the second.
+   */
+  static int distance(final String first, final String second) {
+    int[] previous = new int[second.length() + 1];
+    int[] current = new int[second.length() + 1];
+
+    for (int j = 0; j < previous.length; j++) {
+      previous[j] = j;
+    }
+
+    for (int i = 1; i <= first.length(); i++) {
+      final char character = first.charAt(i - 1);
+
+      current[0] = i;
+
+      for (int j = 1; j < current.length; j++) {
+        final int substitution = previous[j - 1] + (character == second.charAt(j - 1) ? 0 : 1);
+
+        current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+      }
+
+      final int[] swap = previous;
+
+      previous = current;
+      current = swap;
+    }
+
+    return previous[second.length()];
+  }
+
+  /**
+   * A node of the {@link FuzzyIndex} whose children are keyed on their distance to it.
+   */
+  private static final class Node {
+
+    private final String key;
+    private final RegisteredCommand registeredCommand;
+    private final Map<Integer, Node> children;
+
+    private Node(final String key, final RegisteredCommand registeredCommand,
+            final Map<Integer, Node> children) {
+      this.key = key;
+      this.registeredCommand = registeredCommand;
+      this.children = children;
+    }
+  }
+}
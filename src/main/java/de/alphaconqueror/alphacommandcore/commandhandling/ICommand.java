@@ -19,6 +19,22 @@ public interface ICommand {
    */
   ICommandResult handle(final ICommandSender sender, final String[] args);
 
+  /**
+   * Handles a command by a view of the arguments sharing the array the message has been split
+   * into. Commands overriding this method avoid copying the arguments on every call.
+   * Note: Annotations are read from this method, if it is overridden and annotated, from
+   * {@link #handle(ICommandSender, String[])}, if otherwise.
+   *
+   * @param sender The command sender.
+   * @param args   A view of all arguments given.
+   *
+   * @return An executable {@link ICommandResult}, if the command has been handled correctly,
+   *         a not executable command result, if it has not.
+   */
+  default ICommandResult handle(final ICommandSender sender, final CommandArgs args) {
+    return handle(sender, args.toArray());
+  }
+
   /**
    * Gets the invokes used to call the command.
    *
@@ -30,6 +46,18 @@ public interface ICommand {
    */
   String[] getInvokes();
 
+  /**
+   * Gets the alternative invokes the command can be called with as well.
+   *
+   * @return The aliases of the command, each consisting of invokes like {@link #getInvokes()}.
+   *
+   *         <p>Example: Returning {"t"} and {"team", "t"} lets '/t' and '/team t' call the
+   *         command as well.
+   */
+  default String[][] getAliases() {
+    return new String[0][];
+  }
+
   /**
    * Gets the expected arguments of the command.
    *
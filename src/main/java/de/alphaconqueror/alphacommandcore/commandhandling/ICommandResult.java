@@ -6,6 +6,9 @@
 
 package de.alphaconqueror.alphacommandcore.commandhandling;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 public interface ICommandResult {
 
   /**
@@ -15,8 +18,14 @@ public interface ICommandResult {
    */
   boolean isExecutable();
 
+  /**
+   * The shared command result representing a {@link ICommand} that can be executed.
+   */
+  Okay OKAY = new Okay();
+
   /**
    * The command result representing a {@link ICommand} that can be executed.
+   * Note: Results carry no state, so {@link #OKAY} can be returned instead of a new instance.
    */
   final class Okay implements ICommandResult {
 
@@ -109,10 +118,27 @@ public interface ICommandResult {
    */
   final class ErrorCommandNotFound implements ICommandResult {
 
-    private final String[] invokes;
+    private final CommandArgs invokes;
+    private final List<String> suggestions;
 
     public ErrorCommandNotFound(final String[] invokes) {
-      this.invokes = invokes.clone();
+      this(invokes, List.of());
+    }
+
+    public ErrorCommandNotFound(final String[] invokes, final List<String> suggestions) {
+      this(CommandArgs.of(invokes.clone()), suggestions);
+    }
+
+    /**
+     * Constructor of {@link ErrorCommandNotFound} sharing the invokes with the parsed message.
+     * The invokes are only copied into an array, if requested by {@link #getInvokes()}.
+     *
+     * @param invokes     The invokes of the missing command.
+     * @param suggestions The invokes of the similar commands.
+     */
+    ErrorCommandNotFound(final CommandArgs invokes, final List<String> suggestions) {
+      this.invokes = invokes;
+      this.suggestions = List.copyOf(suggestions);
     }
 
     @Override
@@ -126,7 +152,17 @@ public interface ICommandResult {
      * @return The invokes of the missing command.
      */
     public String[] getInvokes() {
-      return this.invokes.clone();
+      return this.invokes.toArray();
+    }
+
+    /**
+     * Gets the invokes of the existing {@link ICommand}s most similar to the missing one.
+     *
+     * @return The similar invokes joined by spaces, closest first, an empty list, if
+     *         suggestions are disabled or no command is similar enough.
+     */
+    public List<String> getSuggestions() {
+      return this.suggestions;
     }
   }
 
@@ -156,4 +192,179 @@ public interface ICommandResult {
       return this.commandSenderClass;
     }
   }
+
+  /**
+   * The command result representing a {@link ICommand} that can not be executed due to the
+   * {@link ICommandSender} exceeding a rate limit.
+   */
+  final class ErrorRateLimited implements ICommandResult {
+
+    private final long retryAfterNanos;
+
+    public ErrorRateLimited(final long retryAfterNanos) {
+      this.retryAfterNanos = retryAfterNanos;
+    }
+
+    @Override
+    public boolean isExecutable() {
+      return false;
+    }
+
+    /**
+     * Gets the time until the sender is allowed to execute the command again.
+     *
+     * @param unit The time unit the time should be converted to.
+     * @return The time until the next permit is available.
+     */
+    public long getRetryAfter(final TimeUnit unit) {
+      return unit.convert(this.retryAfterNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * The command result representing a {@link ICommand} that has not been executed due to too
+   * many invocations of it running at the same time.
+   */
+  final class ErrorBulkheadFull implements ICommandResult {
+
+    private final int maxConcurrent;
+
+    public ErrorBulkheadFull(final int maxConcurrent) {
+      this.maxConcurrent = maxConcurrent;
+    }
+
+    @Override
+    public boolean isExecutable() {
+      return false;
+    }
+
+    /**
+     * Gets the maximum number of invocations of the command running at the same time.
+     *
+     * @return The maximum number of concurrent invocations.
+     */
+    public int getMaxConcurrent() {
+      return this.maxConcurrent;
+    }
+  }
+
+  /**
+   * The command result representing a message that has not been handled, because the lane of
+   * its {@link ICommandSender} in a {@link ShardedCommandHandler} was full or the sharded
+   * command handler has been closed, or a command with a
+   * {@link de.alphaconqueror.alphacommandcore.commandhandling.annotations.Timeout} that has not
+   * been executed, because the queue of the threads executing such commands was full.
+   */
+  final class ErrorOverloaded implements ICommandResult {
+
+    private final int queueCapacity;
+
+    public ErrorOverloaded(final int queueCapacity) {
+      this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public boolean isExecutable() {
+      return false;
+    }
+
+    /**
+     * Gets the number of messages or commands the full queue can hold.
+     *
+     * @return The capacity of the queue.
+     */
+    public int getQueueCapacity() {
+      return this.queueCapacity;
+    }
+  }
+
+  /**
+   * The command result representing a {@link ICommand} that has not finished within its
+   * timeout and has been interrupted.
+   */
+  final class ErrorTimedOut implements ICommandResult {
+
+    private final long timeoutNanos;
+
+    public ErrorTimedOut(final long timeoutNanos) {
+      this.timeoutNanos = timeoutNanos;
+    }
+
+    @Override
+    public boolean isExecutable() {
+      return false;
+    }
+
+    /**
+     * Gets the time the command has been given to finish.
+     *
+     * @param unit The time unit the time should be converted to.
+     * @return The timeout of the command.
+     */
+    public long getTimeout(final TimeUnit unit) {
+      return unit.convert(this.timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * The command result representing a {@link ICommand} that can not be executed due to an
+   * argument not matching the {@link
+   * de.alphaconqueror.alphacommandcore.commandhandling.arguments.ArgumentSchema} of the command.
+   */
+  final class ErrorInvalidArgument implements ICommandResult {
+
+    private final int index;
+    private final String name;
+    private final String input;
+    private final String expected;
+
+    public ErrorInvalidArgument(final int index, final String name, final String input,
+            final String expected) {
+      this.index = index;
+      this.name = name;
+      this.input = input;
+      this.expected = expected;
+    }
+
+    @Override
+    public boolean isExecutable() {
+      return false;
+    }
+
+    /**
+     * Gets the index of the invalid argument.
+     *
+     * @return The index of the argument.
+     */
+    public int getIndex() {
+      return this.index;
+    }
+
+    /**
+     * Gets the name of the invalid argument.
+     *
+     * @return The name of the argument, null, if there are more arguments than expected.
+     */
+    public String getName() {
+      return this.name;
+    }
+
+    /**
+     * Gets the given input of the invalid argument.
+     *
+     * @return The input, null, if a required argument is missing.
+     */
+    public String getInput() {
+      return this.input;
+    }
+
+    /**
+     * Gets the description of the expected argument, e.g. "int between 1 and 64".
+     *
+     * @return The expected argument, null, if there are more arguments than expected.
+     */
+    public String getExpected() {
+      return this.expected;
+    }
+  }
 }
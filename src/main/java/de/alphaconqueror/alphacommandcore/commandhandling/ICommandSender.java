@@ -19,6 +19,21 @@ public interface ICommandSender {
    */
   String getIdentifier();
 
+  /**
+   * Key telling this sender apart from every other sender, used to cache the permission
+   * decisions and results of this sender, to limit its rate and to keep its commands in order.
+   * Unlike {@link #getIdentifier()}, which is shared by all senders of a class, every sender
+   * must have its own key. Instances representing the same sender, e.g. the same user, must
+   * return equal keys. The key should be a lightweight value, e.g. a {@link java.util.UUID}, as
+   * it may be held on to after the sender is gone.
+   *
+   * @return The key of this sender, null, if this sender should not be tracked.
+   *         Defaults to the sender itself.
+   */
+  default Object getSenderKey() {
+    return this;
+  }
+
   /**
    * Verifies, if the command sender has a certain permission.
    *
@@ -0,0 +1,77 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ArgumentSchema;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ParsedArguments;
+
+/**
+ * A {@link ICommand} receiving its arguments parsed by an {@link ArgumentSchema}.
+ * The {@link CommandHandler} resolves the schema once at registration and answers malformed
+ * arguments with {@link ICommandResult.ErrorInvalidArgument} without invoking the command.
+ */
+public interface ITypedCommand extends ICommand {
+
+  /**
+   * Handles a command.
+   *
+   * @param sender The command sender.
+   * @param args   The arguments parsed by the schema of the command.
+   *
+   * @return An executable {@link ICommandResult}, if the command has been handled correctly,
+   *         a not executable command result, if it has not.
+   */
+  ICommandResult handle(final ICommandSender sender, final ParsedArguments args);
+
+  /**
+   * Gets the schema of the arguments of the command.
+   * Note: Should return the same instance on every call.
+   *
+   * @return The argument schema.
+   */
+  ArgumentSchema getArgumentSchema();
+
+  /**
+   * Parses the arguments by the schema of the command and handles it.
+   *
+   * @param sender The command sender.
+   * @param args   A list of all arguments given.
+   *
+   * @return The {@link ICommandResult} of the command,
+   *         {@link ICommandResult.ErrorInvalidArgument}, if the arguments are invalid.
+   */
+  @Override
+  default ICommandResult handle(final ICommandSender sender, final String[] args) {
+    return handle(sender, CommandArgs.of(args));
+  }
+
+  /**
+   * Parses the arguments by the schema of the command and handles it.
+   *
+   * @param sender The command sender.
+   * @param args   A view of all arguments given.
+   *
+   * @return The {@link ICommandResult} of the command,
+   *         {@link ICommandResult.ErrorInvalidArgument}, if the arguments are invalid.
+   */
+  @Override
+  default ICommandResult handle(final ICommandSender sender, final CommandArgs args) {
+    final ParsedArguments parsedArgs = getArgumentSchema().parse(args);
+
+    return parsedArgs.isValid() ? handle(sender, parsedArgs) : parsedArgs.getError();
+  }
+
+  /**
+   * Gets the expected arguments of the command derived from its schema.
+   *
+   * @return The syntax of the arguments.
+   */
+  @Override
+  default String[] getArguments() {
+    return getArgumentSchema().getSyntax();
+  }
+}
@@ -0,0 +1,297 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Cacheable;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ParsedArguments;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A resolved attempt to invoke a {@link ICommand}.
+ * Either holds the command ready to be executed or the {@link ICommandResult} describing why it
+ * can not be executed.
+ */
+final class Invocation {
+
+  private final ICommand command;
+  private final CommandArgs args;
+  private final ParsedArguments parsedArgs;
+  private final ICommandResult commandResult;
+  private final ResultCache resultCache;
+  private final Cacheable cacheable;
+  private final RegisteredCommand guard;
+
+  private Invocation(final ICommand command, final CommandArgs args,
+          final ParsedArguments parsedArgs, final ICommandResult commandResult) {
+    this(command, args, parsedArgs, commandResult, null, null, null);
+  }
+
+  private Invocation(final ICommand command, final CommandArgs args,
+          final ParsedArguments parsedArgs, final ICommandResult commandResult,
+          final ResultCache resultCache, final Cacheable cacheable,
+          final RegisteredCommand guard) {
+    this.command = command;
+    this.args = args;
+    this.parsedArgs = parsedArgs;
+    this.commandResult = commandResult;
+    this.resultCache = resultCache;
+    this.cacheable = cacheable;
+    this.guard = guard;
+  }
+
+  /**
+   * Creates an invocation of a {@link ICommand} that passed all checks.
+   *
+   * @param command The command to be executed.
+   * @param args    The arguments of the command.
+   * @return The executable invocation.
+   */
+  static Invocation of(final ICommand command, final CommandArgs args) {
+    return new Invocation(command, args, null, null);
+  }
+
+  /**
+   * Creates an invocation of a {@link ITypedCommand} whose arguments have already been parsed.
+   *
+   * @param command    The command to be executed.
+   * @param args       The raw arguments of the command.
+   * @param parsedArgs The parsed arguments of the command.
+   * @return The executable invocation.
+   */
+  static Invocation of(final ITypedCommand command, final CommandArgs args,
+          final ParsedArguments parsedArgs) {
+    return new Invocation(command, args, parsedArgs, null);
+  }
+
+  /**
+   * Creates an invocation that can not be executed.
+   *
+   * @param args          The arguments to be reported with the result.
+   * @param commandResult The result describing why there is nothing to execute.
+   * @return The rejected invocation.
+   */
+  static Invocation rejected(final CommandArgs args, final ICommandResult commandResult) {
+    return new Invocation(null, args, null, commandResult);
+  }
+
+  /**
+   * Creates a copy of this executable invocation answered by a {@link ResultCache}, if it holds
+   * a live result of an equal invocation.
+   *
+   * @param resultCache The cache to look the result up in and to store it in.
+   * @param cacheable   The cache declaration of the command.
+   * @return The cached invocation.
+   */
+  Invocation cachedIn(final ResultCache resultCache, final Cacheable cacheable) {
+    return new Invocation(this.command, this.args, this.parsedArgs, null, resultCache,
+            cacheable, this.guard);
+  }
+
+  /**
+   * Creates a copy of this executable invocation limited by the bulkhead and the timeout of a
+   * {@link RegisteredCommand}.
+   *
+   * @param guard The registered command whose limits apply.
+   * @return The guarded invocation.
+   */
+  Invocation guardedBy(final RegisteredCommand guard) {
+    return new Invocation(this.command, this.args, this.parsedArgs, null, this.resultCache,
+            this.cacheable, guard);
+  }
+
+  /**
+   * Executes the {@link ICommand} or returns the result of the rejection.
+   * Note: A command with a timeout is executed by a thread of its own while the calling thread
+   * waits for it at most until the time is up. The calling thread is never interrupted.
+   *
+   * @param sender The {@link ICommandSender} of the command.
+   * @return The {@link ICommandResult} of the invocation.
+   */
+  ICommandResult execute(final ICommandSender sender) {
+    if (isRejected()) {
+      return this.commandResult;
+    }
+
+    if (this.resultCache == null) {
+      return guardedHandle(sender);
+    }
+
+    final ICommandResult cachedResult =
+            this.resultCache.get(this.command, this.cacheable, sender, this.args);
+
+    if (cachedResult != null) {
+      return cachedResult;
+    }
+
+    final ICommandResult commandResult = guardedHandle(sender);
+
+    if (commandResult instanceof ICommandResult.ErrorBulkheadFull
+            || commandResult instanceof ICommandResult.ErrorTimedOut
+            || commandResult instanceof ICommandResult.ErrorOverloaded) {
+      return commandResult;
+    }
+
+    this.resultCache.put(this.command, this.cacheable, sender, this.args, commandResult);
+    return commandResult;
+  }
+
+  private ICommandResult guardedHandle(final ICommandSender sender) {
+    if (this.guard == null) {
+      return handle(sender);
+    }
+
+    if (!this.guard.tryAcquire()) {
+      return this.guard.getErrorBulkheadFull();
+    }
+
+    final ICommandResult.ErrorTimedOut errorTimedOut = this.guard.getErrorTimedOut();
+
+    if (errorTimedOut == null) {
+      try {
+        return handle(sender);
+      } finally {
+        this.guard.release();
+      }
+    }
+
+    // whoever flips the flag first owns the slot, so a task cancelled before it started does
+    // not leak it and a running task keeps it until the command has actually finished
+    final AtomicBoolean started = new AtomicBoolean();
+    final FutureTask<ICommandResult> task = new FutureTask<>(() -> {
+      if (!started.compareAndSet(false, true)) {
+        return null;
+      }
+
+      try {
+        return handle(sender);
+      } finally {
+        this.guard.release();
+      }
+    });
+
+    try {
+      TimedExecutor.INSTANCE.execute(task);
+    } catch (final RejectedExecutionException e) {
+      this.guard.release();
+      return TimedExecutor.ERROR_OVERLOADED;
+    }
+
+    try {
+      return task.get(errorTimedOut.getTimeout(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    } catch (final TimeoutException | CancellationException e) {
+      return timeOut(task, started, errorTimedOut);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return timeOut(task, started, errorTimedOut);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  private ICommandResult timeOut(final FutureTask<ICommandResult> task,
+          final AtomicBoolean started, final ICommandResult.ErrorTimedOut errorTimedOut) {
+    task.cancel(true);
+
+    if (started.compareAndSet(false, true)) {
+      this.guard.release();
+    }
+
+    return errorTimedOut;
+  }
+
+  private ICommandResult handle(final ICommandSender sender) {
+    return this.parsedArgs == null ? this.command.handle(sender, this.args)
+            : ((ITypedCommand) this.command).handle(sender, this.parsedArgs);
+  }
+
+  /**
+   * Checks, if the invocation has been rejected before executing the command.
+   *
+   * @return True, if there is no command to execute, false, if otherwise.
+   */
+  boolean isRejected() {
+    return this.command == null;
+  }
+
+  /**
+   * Gets the {@link ICommand} to be executed.
+   *
+   * @return The command, null, if the invocation has been rejected.
+   */
+  ICommand getCommand() {
+    return this.command;
+  }
+
+  /**
+   * Gets the arguments of the command or the arguments to be reported with the rejection.
+   *
+   * @return The arguments.
+   */
+  CommandArgs getArgs() {
+    return this.args;
+  }
+
+  /**
+   * Gets the {@link ICommandResult} of a rejected invocation.
+   *
+   * @return The result of the rejection, null, if the invocation is executable.
+   */
+  ICommandResult getCommandResult() {
+    return this.commandResult;
+  }
+
+  /**
+   * Holds the threads executing commands with a timeout, started once the first of them is
+   * executed.
+   * The threads are not shared with any other executor, so a caller waiting for a timed command
+   * never waits for its own thread, and there are at most {@link #THREADS} of them, so commands
+   * ignoring the interrupt of their cancellation can not start new threads without end.
+   */
+  private static final class TimedExecutor {
+
+    private static final int THREADS = Math.max(4, 2 * Runtime.getRuntime()
+            .availableProcessors());
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final ICommandResult.ErrorOverloaded ERROR_OVERLOADED =
+            new ICommandResult.ErrorOverloaded(QUEUE_CAPACITY);
+    private static final ThreadPoolExecutor INSTANCE = newExecutor();
+
+    private static ThreadPoolExecutor newExecutor() {
+      final AtomicInteger threadCount = new AtomicInteger();
+      final ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 60,
+              TimeUnit.SECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                final Thread thread = new Thread(runnable,
+                        "AlphaCommandCore-Timed-" + threadCount.getAndIncrement());
+
+                thread.setDaemon(true);
+                return thread;
+              });
+
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+}
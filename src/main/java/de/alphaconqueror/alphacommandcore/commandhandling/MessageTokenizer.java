@@ -0,0 +1,298 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Splits messages into tokens in a single pass without regular expressions.
+ * A separator preceded by a backslash does not split, the backslash is kept in the token.
+ * If quoted strings are enabled, a token starting with a double quote spans up to the next
+ * unescaped double quote, including separators, and does not contain the quotes themselves.
+ * Like {@link String#split(String)}, trailing empty tokens are dropped, unless they have been
+ * quoted explicitly, e.g. {@code ""}.
+ */
+public final class MessageTokenizer {
+
+  private static final char ESCAPE = '\\';
+  private static final char QUOTE = '"';
+
+  private final String separator;
+  private final char separatorChar;
+  private final boolean singleCharSeparator;
+  private final boolean ignoreBlanks;
+  private final boolean parseQuotes;
+
+  /**
+   * Constructor of {@link MessageTokenizer}.
+   *
+   * @param separator    The separator between two tokens.
+   * @param ignoreBlanks True, if blank tokens should be skipped, false, if otherwise.
+   * @param parseQuotes  True, if quoted strings should be kept as one token, false, if otherwise.
+   * @throws IllegalArgumentException if the separator is empty.
+   */
+  public MessageTokenizer(final String separator, final boolean ignoreBlanks,
+          final boolean parseQuotes) {
+    if (separator.isEmpty()) {
+      throw new IllegalArgumentException("Empty separator.");
+    }
+
+    this.separator = separator;
+    this.separatorChar = separator.charAt(0);
+    this.singleCharSeparator = separator.length() == 1;
+    this.ignoreBlanks = ignoreBlanks;
+    this.parseQuotes = parseQuotes;
+  }
+
+  /**
+   * Tokenizes a message starting at a given index.
+   *
+   * @param message   The message to be tokenized.
+   * @param fromIndex The index of the first character to be respected.
+   * @return The tokens of the message.
+   */
+  public Tokens tokenize(final CharSequence message, final int fromIndex) {
+    final Tokens tokens = new Tokens(message);
+    final int length = message.length();
+    int index = fromIndex;
+
+    while (index < length) {
+      int start = index;
+      int end;
+
+      if (this.parseQuotes && message.charAt(index) == QUOTE) {
+        start++;
+        end = findQuoteEnd(message, start);
+        index = end < length ? end + 1 : end;
+
+        if (separatorAt(message, index)) {
+          index += this.separator.length();
+        }
+
+        tokens.addQuoted(start, end);
+        continue;
+      }
+
+      end = findSeparator(message, index);
+      index = end < length ? end + this.separator.length() : end;
+
+      if (!this.ignoreBlanks || !isBlank(message, start, end)) {
+        tokens.add(start, end);
+      }
+    }
+
+    tokens.trimTrailingEmpty();
+
+    return tokens;
+  }
+
+  private int findSeparator(final CharSequence message, final int fromIndex) {
+    final int length = message.length();
+
+    for (int i = fromIndex; i < length; i++) {
+      final char c = message.charAt(i);
+
+      if (c == ESCAPE) {
+        i++;
+      } else if (c == this.separatorChar && (this.singleCharSeparator
+              || separatorAt(message, i))) {
+        return i;
+      }
+    }
+
+    return length;
+  }
+
+  private static int findQuoteEnd(final CharSequence message, final int fromIndex) {
+    final int length = message.length();
+
+    for (int i = fromIndex; i < length; i++) {
+      final char c = message.charAt(i);
+
+      if (c == ESCAPE) {
+        i++;
+      } else if (c == QUOTE) {
+        return i;
+      }
+    }
+
+    return length;
+  }
+
+  private boolean separatorAt(final CharSequence message, final int index) {
+    final int length = this.separator.length();
+
+    if (index + length > message.length()) {
+      return false;
+    }
+
+    for (int i = 0; i < length; i++) {
+      if (message.charAt(index + i) != this.separator.charAt(i)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean isBlank(final CharSequence message, final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      if (!Character.isWhitespace(message.charAt(i))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Gets the separator.
+   *
+   * @return The separator.
+   */
+  public String getSeparator() {
+    return this.separator;
+  }
+
+  /**
+   * Checks if blanks are ignored.
+   *
+   * @return True, if blanks are ignored, false, if otherwise.
+   */
+  public boolean isIgnoringBlanks() {
+    return this.ignoreBlanks;
+  }
+
+  /**
+   * Checks if quoted strings are kept as one token.
+   *
+   * @return True, if quoted strings are kept as one token, false, if otherwise.
+   */
+  public boolean isParsingQuotes() {
+    return this.parseQuotes;
+  }
+
+  /**
+   * The tokens of a message stored as start and end offsets into the message.
+   */
+  public static final class Tokens {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final CharSequence message;
+    private int[] bounds = new int[INITIAL_CAPACITY * 2];
+    private int size;
+    private int quotedSize;
+
+    private Tokens(final CharSequence message) {
+      this.message = message;
+    }
+
+    private void add(final int start, final int end) {
+      if (this.size * 2 == this.bounds.length) {
+        this.bounds = Arrays.copyOf(this.bounds, this.bounds.length * 2);
+      }
+
+      this.bounds[this.size * 2] = start;
+      this.bounds[this.size * 2 + 1] = end;
+      this.size++;
+    }
+
+    private void addQuoted(final int start, final int end) {
+      add(start, end);
+      this.quotedSize = this.size;
+    }
+
+    /**
+     * Drops the trailing empty tokens following the last quoted token.
+     */
+    private void trimTrailingEmpty() {
+      while (this.size > this.quotedSize && getStart(this.size - 1) == getEnd(this.size - 1)) {
+        this.size--;
+      }
+    }
+
+    /**
+     * Gets the number of tokens.
+     *
+     * @return The number of tokens.
+     */
+    public int size() {
+      return this.size;
+    }
+
+    /**
+     * Gets the index of the first character of a token in the message.
+     *
+     * @param index The index of the token.
+     * @return The start offset of the token.
+     */
+    public int getStart(final int index) {
+      return this.bounds[index * 2];
+    }
+
+    /**
+     * Gets the index after the last character of a token in the message.
+     *
+     * @param index The index of the token.
+     * @return The end offset of the token.
+     */
+    public int getEnd(final int index) {
+      return this.bounds[index * 2 + 1];
+    }
+
+    /**
+     * Gets the message the tokens refer to.
+     *
+     * @return The tokenized message.
+     */
+    public CharSequence getMessage() {
+      return this.message;
+    }
+
+    /**
+     * Materializes a token as a string.
+     *
+     * @param index The index of the token.
+     * @return The token.
+     */
+    public String get(final int index) {
+      final int start = getStart(index);
+      final int end = getEnd(index);
+
+      if (this.message instanceof String) {
+        return ((String) this.message).substring(start, end);
+      }
+
+      if (this.message instanceof CharBuffer && ((CharBuffer) this.message).hasArray()) {
+        final CharBuffer buffer = (CharBuffer) this.message;
+
+        return new String(buffer.array(), buffer.arrayOffset() + buffer.position() + start,
+                end - start);
+      }
+
+      return this.message.subSequence(start, end).toString();
+    }
+
+    /**
+     * Materializes all tokens starting at a given index.
+     *
+     * @param fromIndex The index of the first token.
+     * @return An array containing the tokens.
+     */
+    public String[] toArray(final int fromIndex) {
+      final String[] array = new String[Math.max(0, this.size - fromIndex)];
+
+      for (int i = 0; i < array.length; i++) {
+        array[i] = get(fromIndex + i);
+      }
+
+      return array;
+    }
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Memoizes the decisions of {@link ICommandSender#hasPermission(String)} per
+ * {@link ICommandSender#getSenderKey() sender key} and permission for a time to live.
+ * The number of decisions is bounded: once exceeded, expired decisions are removed first and
+ * then the decisions of whole senders, until the cache is back under its bound. Senders left
+ * without decisions are removed as well, so no more senders than decisions are held.
+ * Lookups neither lock nor allocate.
+ */
+public final class PermissionCache {
+
+  private final Map<Object, Map<String, Decision>> decisions = new ConcurrentHashMap<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final int maximumSize;
+  private final long timeToLive;
+
+  /**
+   * Constructor of {@link PermissionCache}.
+   *
+   * @param maximumSize The maximum number of cached decisions.
+   * @param timeToLive  The time a decision is cached for.
+   * @param unit        The time unit of the time to live.
+   * @throws IllegalArgumentException if the maximum size or the time to live are not positive.
+   */
+  public PermissionCache(final int maximumSize, final long timeToLive, final TimeUnit unit) {
+    if (maximumSize <= 0 || timeToLive <= 0) {
+      throw new IllegalArgumentException("Maximum size and time to live have to be positive.");
+    }
+
+    this.maximumSize = maximumSize;
+    this.timeToLive = unit.toNanos(timeToLive);
+  }
+
+  /**
+   * Checks, if a {@link ICommandSender} has a permission, asking the sender only if there is no
+   * live decision cached.
+   * Note: Senders without a key are always asked.
+   *
+   * @param sender     The sender to be checked.
+   * @param permission The permission to be checked.
+   * @return True, if the sender has the permission, false, if otherwise.
+   */
+  public boolean hasPermission(final ICommandSender sender, final String permission) {
+    final Object senderKey = sender.getSenderKey();
+
+    if (senderKey == null) {
+      this.misses.increment();
+      return sender.hasPermission(permission);
+    }
+
+    final long now = System.nanoTime();
+    final Map<String, Decision> senderDecisions = this.decisions.get(senderKey);
+    final Decision decision = senderDecisions == null ? null : senderDecisions.get(permission);
+
+    if (decision != null && decision.expiresAt - now > 0) {
+      this.hits.increment();
+      return decision.granted;
+    }
+
+    this.misses.increment();
+
+    final boolean granted = sender.hasPermission(permission);
+    final Decision newDecision = new Decision(granted, now + this.timeToLive);
+
+    // the put happens inside compute, so it can not land in a map removed by a sweep
+    this.decisions.compute(senderKey, (key, oldSenderDecisions) -> {
+      final Map<String, Decision> newSenderDecisions =
+              oldSenderDecisions == null ? new ConcurrentHashMap<>() : oldSenderDecisions;
+
+      if (newSenderDecisions.put(permission, newDecision) == null) {
+        this.size.incrementAndGet();
+      }
+
+      return newSenderDecisions;
+    });
+
+    if (this.size.get() > this.maximumSize) {
+      evict(now);
+    }
+
+    return granted;
+  }
+
+  private synchronized void evict(final long now) {
+    if (this.size.get() <= this.maximumSize) {
+      return;
+    }
+
+    int size = 0;
+
+    for (final Object senderKey : this.decisions.keySet()) {
+      // senders left without decisions are removed, so their keys do not pile up
+      final Map<String, Decision> senderDecisions = this.decisions.computeIfPresent(senderKey,
+              (key, decisions) -> {
+                final int before = decisions.size();
+
+                decisions.values().removeIf(decision -> decision.expiresAt - now <= 0);
+                this.evictions.add(before - decisions.size());
+                return decisions.isEmpty() ? null : decisions;
+              });
+
+      if (senderDecisions != null) {
+        size += senderDecisions.size();
+      }
+    }
+
+    final Iterator<Object> iterator = this.decisions.keySet().iterator();
+
+    while (size > this.maximumSize && iterator.hasNext()) {
+      final Map<String, Decision> senderDecisions = this.decisions.remove(iterator.next());
+
+      if (senderDecisions != null) {
+        size -= senderDecisions.size();
+        this.evictions.add(senderDecisions.size());
+      }
+    }
+
+    // Recounted, so drift caused by concurrent invalidations does not accumulate.
+    this.size.set(size);
+  }
+
+  /**
+   * Removes all decisions of a sender, e.g. after its permissions have changed.
+   *
+   * @param senderKey The {@link ICommandSender#getSenderKey() key} of the sender.
+   */
+  public void invalidate(final Object senderKey) {
+    final Map<String, Decision> senderDecisions = this.decisions.remove(senderKey);
+
+    if (senderDecisions != null) {
+      this.size.addAndGet(-senderDecisions.size());
+    }
+  }
+
+  /**
+   * Removes all decisions.
+   */
+  public void invalidateAll() {
+    for (final Object senderKey : this.decisions.keySet()) {
+      invalidate(senderKey);
+    }
+  }
+
+  /**
+   * Gets the number of cached decisions.
+   *
+   * @return The approximate number of decisions.
+   */
+  public int size() {
+    return Math.max(0, this.size.get());
+  }
+
+  /**
+   * Gets the number of checks answered by a cached decision.
+   *
+   * @return The number of hits.
+   */
+  public long getHitCount() {
+    return this.hits.sum();
+  }
+
+  /**
+   * Gets the number of checks the sender had to be asked for.
+   *
+   * @return The number of misses.
+   */
+  public long getMissCount() {
+    return this.misses.sum();
+  }
+
+  /**
+   * Gets the number of decisions removed to stay within the maximum size.
+   *
+   * @return The number of evictions.
+   */
+  public long getEvictionCount() {
+    return this.evictions.sum();
+  }
+
+  /**
+   * Gets the maximum number of cached decisions.
+   *
+   * @return The maximum size.
+   */
+  public int getMaximumSize() {
+    return this.maximumSize;
+  }
+
+  /**
+   * Gets the time a decision is cached for.
+   *
+   * @param unit The time unit the time to live should be converted to.
+   * @return The time to live.
+   */
+  public long getTimeToLive(final TimeUnit unit) {
+    return unit.convert(this.timeToLive, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * A cached decision of {@link ICommandSender#hasPermission(String)}.
+   */
+  private static final class Decision {
+
+    private final boolean granted;
+    private final long expiresAt;
+
+    private Decision(final boolean granted, final long expiresAt) {
+      this.granted = granted;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket per {@link ICommandSender#getSenderKey() sender key} allowing a
+ * number of permits per period, refilled continuously.
+ * Each bucket is a single timestamp updated by compare-and-set. Buckets of idle senders, whose
+ * bucket is full again, are expired regularly in the background, so memory stays bounded by the
+ * number of recently active senders without slowing down the dispatch.
+ */
+public final class RateLimiter {
+
+  private static final long EXPIRED = Long.MIN_VALUE;
+  private static final long MIN_SWEEP_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+  private final Map<Object, Bucket> buckets = new ConcurrentHashMap<>();
+  private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+  private final int permits;
+  private final long period;
+  private final long interval;
+  private final long sweepInterval;
+
+  /**
+   * Constructor of {@link RateLimiter}.
+   *
+   * @param permits The number of permits per period, which is also the maximum burst.
+   * @param period  The period in which the permits are refilled.
+   * @param unit    The time unit of the period.
+   * @throws IllegalArgumentException if the permits or the period are not positive.
+   */
+  public RateLimiter(final int permits, final long period, final TimeUnit unit) {
+    if (permits <= 0 || period <= 0) {
+      throw new IllegalArgumentException("Permits and period have to be positive.");
+    }
+
+    this.permits = permits;
+    this.period = unit.toNanos(period);
+    this.interval = Math.max(1, this.period / permits);
+    this.sweepInterval = Math.max(MIN_SWEEP_INTERVAL, this.period);
+  }
+
+  /**
+   * Tries to take a permit for a sender.
+   *
+   * Note: Senders without a key are not limited.
+   *
+   * @param key The {@link ICommandSender#getSenderKey() key} of the sender.
+   * @return 0, if a permit has been taken, the nanoseconds until the next permit is available,
+   *         if otherwise.
+   */
+  public long tryAcquire(final Object key) {
+    if (key == null) {
+      return 0;
+    }
+
+    final long now = System.nanoTime();
+
+    sweepIfDue(now);
+
+    while (true) {
+      final Bucket bucket = this.buckets.computeIfAbsent(key, k -> new Bucket(now));
+      final long theoreticalArrival = bucket.get();
+
+      if (theoreticalArrival == EXPIRED) {
+        this.buckets.remove(key, bucket);
+        continue;
+      }
+
+      final long newTheoreticalArrival = Math.max(theoreticalArrival, now) + this.interval;
+      final long overdraft = newTheoreticalArrival - now - this.period;
+
+      if (overdraft > 0) {
+        return overdraft;
+      }
+
+      if (bucket.compareAndSet(theoreticalArrival, newTheoreticalArrival)) {
+        return 0;
+      }
+    }
+  }
+
+  private void sweepIfDue(final long now) {
+    final long last = this.lastSweep.get();
+
+    if (now - last >= this.sweepInterval && this.lastSweep.compareAndSet(last, now)) {
+      ForkJoinPool.commonPool().execute(() -> expireIdle(System.nanoTime()));
+    }
+  }
+
+  /**
+   * Removes the buckets of all senders whose bucket is full again.
+   */
+  public void expireIdle() {
+    expireIdle(System.nanoTime());
+  }
+
+  private void expireIdle(final long now) {
+    this.buckets.entrySet().removeIf(entry -> entry.getValue().expireIfIdle(now));
+  }
+
+  /**
+   * Gets the number of senders currently tracked.
+   *
+   * @return The number of buckets.
+   */
+  public int size() {
+    return this.buckets.size();
+  }
+
+  /**
+   * Gets the number of permits per period.
+   *
+   * @return The number of permits.
+   */
+  public int getPermits() {
+    return this.permits;
+  }
+
+  /**
+   * Gets the period in which the permits are refilled.
+   *
+   * @param unit The time unit the period should be converted to.
+   * @return The period.
+   */
+  public long getPeriod(final TimeUnit unit) {
+    return unit.convert(this.period, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * The theoretical arrival time of the next request of a sender, following the generic cell
+   * rate algorithm.
+   */
+  private static final class Bucket extends AtomicLong {
+
+    private static final long serialVersionUID = 1L;
+
+    private Bucket(final long theoreticalArrival) {
+      super(theoreticalArrival);
+    }
+
+    private boolean expireIfIdle(final long now) {
+      long theoreticalArrival;
+
+      do {
+        theoreticalArrival = get();
+
+        if (theoreticalArrival != EXPIRED && theoreticalArrival - now > 0) {
+          return false;
+        }
+      } while (!compareAndSet(theoreticalArrival, EXPIRED));
+
+      return true;
+    }
+  }
+}
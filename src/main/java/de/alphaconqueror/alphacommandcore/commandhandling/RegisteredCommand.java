@@ -0,0 +1,191 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Bulkhead;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.RateLimit;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Timeout;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ArgumentSchema;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link ICommand} registered to a {@link CommandHandler} together with the state resolved
+ * once at registration.
+ */
+final class RegisteredCommand {
+
+  private final ICommand command;
+  private final CommandMetadata metadata;
+  private final RateLimiter rateLimiter;
+  private final ArgumentSchema argumentSchema;
+  private final AtomicInteger running = new AtomicInteger();
+  private final ICommandResult.ErrorBulkheadFull errorBulkheadFull;
+  private final ICommandResult.ErrorTimedOut errorTimedOut;
+
+  /**
+   * Constructor of {@link RegisteredCommand}.
+   *
+   * @param command The command to be registered.
+   */
+  RegisteredCommand(final ICommand command) {
+    this.command = command;
+    this.metadata = CommandMetadata.of(command);
+    this.rateLimiter = newRateLimiter(this.metadata.getRateLimit());
+    this.argumentSchema = command instanceof ITypedCommand
+            ? ((ITypedCommand) command).getArgumentSchema() : null;
+    this.errorBulkheadFull = newErrorBulkheadFull(this.metadata.getBulkhead());
+    this.errorTimedOut = newErrorTimedOut(this.metadata.getTimeout());
+  }
+
+  private static ICommandResult.ErrorBulkheadFull newErrorBulkheadFull(final Bulkhead bulkhead) {
+    if (bulkhead == null) {
+      return null;
+    }
+
+    if (bulkhead.maxConcurrent() < 1) {
+      throw new IllegalArgumentException("The maximum number of concurrent invocations must be "
+              + "positive.");
+    }
+
+    return new ICommandResult.ErrorBulkheadFull(bulkhead.maxConcurrent());
+  }
+
+  private static ICommandResult.ErrorTimedOut newErrorTimedOut(final Timeout timeout) {
+    if (timeout == null) {
+      return null;
+    }
+
+    if (timeout.value() <= 0) {
+      throw new IllegalArgumentException("The timeout must be positive.");
+    }
+
+    return new ICommandResult.ErrorTimedOut(timeout.unit().toNanos(timeout.value()));
+  }
+
+  private static RateLimiter newRateLimiter(final RateLimit rateLimit) {
+    return rateLimit == null ? null
+            : new RateLimiter(rateLimit.permits(), rateLimit.period(), rateLimit.unit());
+  }
+
+  /**
+   * Checks, if a {@link ICommandSender} is allowed to execute the command right now.
+   * Note: Takes a permit of the rate limit of the command, if it has one.
+   *
+   * @param sender          The sender trying to execute the command.
+   * @param permissionCache The cache to look the permission up in, null, to ask the sender.
+   * @return The {@link ICommandResult} describing why the sender is not allowed to execute
+   *         the command, null, if it is allowed to.
+   */
+  ICommandResult authorize(final ICommandSender sender, final PermissionCache permissionCache) {
+    final ICommandResult commandResult = this.metadata.authorize(sender, permissionCache);
+
+    if (commandResult != null || this.rateLimiter == null || sender == null) {
+      return commandResult;
+    }
+
+    final long retryAfter = this.rateLimiter.tryAcquire(sender.getSenderKey());
+
+    return retryAfter == 0 ? null : new ICommandResult.ErrorRateLimited(retryAfter);
+  }
+
+  /**
+   * Checks, if the invocations of the command are limited by a {@link Bulkhead} or a
+   * {@link Timeout}.
+   *
+   * @return True, if the command is guarded, false, if otherwise.
+   */
+  boolean isGuarded() {
+    return this.errorBulkheadFull != null || this.errorTimedOut != null;
+  }
+
+  /**
+   * Takes a slot of the bulkhead of the command, if it has one.
+   *
+   * @return True, if the command may be executed, false, if the bulkhead is full.
+   */
+  boolean tryAcquire() {
+    if (this.errorBulkheadFull == null) {
+      return true;
+    }
+
+    final int maxConcurrent = this.errorBulkheadFull.getMaxConcurrent();
+    int running;
+
+    do {
+      running = this.running.get();
+
+      if (running >= maxConcurrent) {
+        return false;
+      }
+    } while (!this.running.compareAndSet(running, running + 1));
+
+    return true;
+  }
+
+  /**
+   * Releases a slot taken by {@link #tryAcquire()}.
+   */
+  void release() {
+    if (this.errorBulkheadFull != null) {
+      this.running.decrementAndGet();
+    }
+  }
+
+  /**
+   * Gets the number of invocations of the command running right now.
+   *
+   * @return The number of running invocations, 0, if the command has no bulkhead.
+   */
+  int getRunning() {
+    return this.running.get();
+  }
+
+  /**
+   * Gets the result shared by all invocations rejected by the bulkhead of the command.
+   *
+   * @return The result, null, if the command has no bulkhead.
+   */
+  ICommandResult.ErrorBulkheadFull getErrorBulkheadFull() {
+    return this.errorBulkheadFull;
+  }
+
+  /**
+   * Gets the result shared by all invocations of the command that timed out.
+   *
+   * @return The result, null, if the command has no timeout.
+   */
+  ICommandResult.ErrorTimedOut getErrorTimedOut() {
+    return this.errorTimedOut;
+  }
+
+  /**
+   * Gets the registered {@link ICommand}.
+   *
+   * @return The command.
+   */
+  ICommand getCommand() {
+    return this.command;
+  }
+
+  /**
+   * Gets the {@link CommandMetadata} of the command.
+   *
+   * @return The metadata.
+   */
+  CommandMetadata getMetadata() {
+    return this.metadata;
+  }
+
+  /**
+   * Gets the {@link ArgumentSchema} of the command, resolved at registration.
+   *
+   * @return The argument schema, null, if the command is not a {@link ITypedCommand}.
+   */
+  ArgumentSchema getArgumentSchema() {
+    return this.argumentSchema;
+  }
+}
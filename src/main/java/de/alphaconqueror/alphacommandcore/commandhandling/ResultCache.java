@@ -0,0 +1,255 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Cacheable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Memoizes the {@link ICommandResult}s of {@link ICommand}s declared {@link Cacheable}, keyed by
+ * the command, its arguments and, depending on the scope, the
+ * {@link ICommandSender#getSenderKey() sender key}.
+ * The number of results is bounded: once exceeded, expired results are removed first and then
+ * arbitrary ones, until the cache is back under its bound.
+ * Note: Concurrent invocations missing the same result may all execute the command.
+ */
+public final class ResultCache {
+
+  private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final int maximumSize;
+
+  /**
+   * Constructor of {@link ResultCache}.
+   *
+   * @param maximumSize The maximum number of cached results.
+   * @throws IllegalArgumentException if the maximum size is not positive.
+   */
+  public ResultCache(final int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("Maximum size has to be positive.");
+    }
+
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Gets the live result of a previous invocation with equal arguments.
+   *
+   * @param command   The command to be invoked.
+   * @param cacheable The cache declaration of the command.
+   * @param sender    The {@link ICommandSender} invoking the command.
+   * @param args      The arguments of the invocation.
+   * @return The cached result, null, if there is none or it has expired.
+   */
+  ICommandResult get(final ICommand command, final Cacheable cacheable,
+          final ICommandSender sender, final CommandArgs args) {
+    final Key key = key(command, cacheable, sender, args);
+    final Entry entry = key == null ? null : this.entries.get(key);
+
+    if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+      this.hits.increment();
+      return entry.commandResult;
+    }
+
+    this.misses.increment();
+    return null;
+  }
+
+  /**
+   * Caches the result of an invocation for the time to live of the command.
+   *
+   * @param command       The invoked command.
+   * @param cacheable     The cache declaration of the command.
+   * @param sender        The {@link ICommandSender} having invoked the command.
+   * @param args          The arguments of the invocation.
+   * @param commandResult The result of the invocation.
+   */
+  void put(final ICommand command, final Cacheable cacheable, final ICommandSender sender,
+          final CommandArgs args, final ICommandResult commandResult) {
+    final Key key = key(command, cacheable, sender, CommandArgs.of(args.toArray()));
+
+    if (key == null || commandResult == null) {
+      return;
+    }
+
+    final long now = System.nanoTime();
+
+    if (this.entries.put(key, new Entry(commandResult,
+            now + cacheable.unit().toNanos(cacheable.ttl()))) == null
+            && this.size.incrementAndGet() > this.maximumSize) {
+      evict(now);
+    }
+  }
+
+  /**
+   * Creates the key of an invocation.
+   *
+   * @return The key, null, if the results of the sender can not be told apart from others.
+   */
+  private static Key key(final ICommand command, final Cacheable cacheable,
+          final ICommandSender sender, final CommandArgs args) {
+    if (cacheable.scope() == Cacheable.Scope.GLOBAL) {
+      return new Key(command, null, args);
+    }
+
+    final Object senderKey = sender == null ? null : sender.getSenderKey();
+
+    return senderKey == null ? null : new Key(command, senderKey, args);
+  }
+
+  private synchronized void evict(final long now) {
+    if (this.size.get() <= this.maximumSize) {
+      return;
+    }
+
+    final int before = this.entries.size();
+
+    this.entries.values().removeIf(entry -> entry.expiresAt - now <= 0);
+
+    int size = this.entries.size();
+    final Iterator<Entry> iterator = this.entries.values().iterator();
+
+    while (size > this.maximumSize && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+      size--;
+    }
+
+    this.evictions.add(Math.max(0, before - size));
+    // Recounted, so drift caused by concurrent invalidations does not accumulate.
+    this.size.set(size);
+  }
+
+  /**
+   * Removes all results of a {@link ICommand}, e.g. after the data it presents has changed.
+   *
+   * @param command The command whose results should be removed.
+   */
+  public void invalidate(final ICommand command) {
+    for (final Key key : this.entries.keySet()) {
+      if (key.command == command && this.entries.remove(key) != null) {
+        this.size.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Removes all results.
+   */
+  public void invalidateAll() {
+    for (final Key key : this.entries.keySet()) {
+      if (this.entries.remove(key) != null) {
+        this.size.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Gets the number of cached results.
+   *
+   * @return The approximate number of results.
+   */
+  public int size() {
+    return Math.max(0, this.size.get());
+  }
+
+  /**
+   * Gets the number of invocations answered by a cached result.
+   *
+   * @return The number of hits.
+   */
+  public long getHitCount() {
+    return this.hits.sum();
+  }
+
+  /**
+   * Gets the number of invocations of cacheable commands that had to be executed.
+   *
+   * @return The number of misses.
+   */
+  public long getMissCount() {
+    return this.misses.sum();
+  }
+
+  /**
+   * Gets the number of results removed to stay within the maximum size.
+   *
+   * @return The number of evictions.
+   */
+  public long getEvictionCount() {
+    return this.evictions.sum();
+  }
+
+  /**
+   * Gets the maximum number of cached results.
+   *
+   * @return The maximum size.
+   */
+  public int getMaximumSize() {
+    return this.maximumSize;
+  }
+
+  /**
+   * The invocation a result has been cached for.
+   */
+  private static final class Key {
+
+    private final ICommand command;
+    private final Object senderKey;
+    private final CommandArgs args;
+    private final int hashCode;
+
+    private Key(final ICommand command, final Object senderKey, final CommandArgs args) {
+      this.command = command;
+      this.senderKey = senderKey;
+      this.args = args;
+      this.hashCode = 31 * (31 * System.identityHashCode(command)
+              + Objects.hashCode(senderKey)) + args.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+      if (!(object instanceof Key)) {
+        return false;
+      }
+
+      final Key other = (Key) object;
+
+      return this.command == other.command && Objects.equals(this.senderKey, other.senderKey)
+              && this.args.equals(other.args);
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hashCode;
+    }
+  }
+
+  /**
+   * A cached {@link ICommandResult}.
+   */
+  private static final class Entry {
+
+    private final ICommandResult commandResult;
+    private final long expiresAt;
+
+    private Entry(final ICommandResult commandResult, final long expiresAt) {
+      this.commandResult = commandResult;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
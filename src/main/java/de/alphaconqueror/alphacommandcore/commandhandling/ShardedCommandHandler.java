@@ -0,0 +1,436 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Dispatches messages to a {@link CommandHandler} on a fixed number of lanes, each drained by a
+ * single thread.
+ * The lane of a message is chosen by the {@link ICommandSender#getSenderKey() key} of its
+ * {@link ICommandSender}, so the messages of one sender are handled one after another in the
+ * order they have been submitted, while the messages of different senders are spread over all
+ * lanes. What happens, if the lane of a sender is full, is decided by the
+ * {@link OverflowPolicy}.
+ * A lane whose thread is interrupted or fails with an {@link Error} stops and rejects its
+ * messages from then on.
+ */
+public final class ShardedCommandHandler implements AutoCloseable {
+
+  private static final long BLOCK_POLL_MILLIS = 50;
+
+  private final CommandHandler commandHandler;
+  private final Lane[] lanes;
+  private final int queueCapacity;
+  private final OverflowPolicy overflowPolicy;
+  private final ICommandResult.ErrorOverloaded errorOverloaded;
+  private final LongAdder handled = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private volatile boolean running = true;
+
+  /**
+   * Constructor of {@link ShardedCommandHandler}.
+   * Starts one thread per lane right away.
+   *
+   * @param commandHandler The command handler to dispatch the messages to.
+   * @param laneCount      The number of lanes, e.g.
+   *                       {@link Runtime#availableProcessors()}.
+   * @param queueCapacity  The number of messages a lane can hold.
+   * @param overflowPolicy The policy applied, if the lane of a message is full.
+   * @throws IllegalArgumentException if the number of lanes or the capacity are not positive.
+   */
+  public ShardedCommandHandler(final CommandHandler commandHandler, final int laneCount,
+          final int queueCapacity, final OverflowPolicy overflowPolicy) {
+    if (laneCount <= 0) {
+      throw new IllegalArgumentException("Lane count has to be positive.");
+    }
+
+    if (queueCapacity <= 0) {
+      throw new IllegalArgumentException("Queue capacity has to be positive.");
+    }
+
+    this.commandHandler = commandHandler;
+    this.lanes = new Lane[laneCount];
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = overflowPolicy;
+    this.errorOverloaded = new ICommandResult.ErrorOverloaded(queueCapacity);
+
+    for (int i = 0; i < laneCount; i++) {
+      this.lanes[i] = new Lane(i, queueCapacity);
+    }
+  }
+
+  /**
+   * Queues a message to be handled on the lane of its {@link ICommandSender}.
+   *
+   * @param message The message to be parsed and handled.
+   * @param sender  The sender of the message.
+   * @return A future completed with the {@link ICommandResult} of the handled command,
+   *         {@link ICommandResult.ErrorOverloaded}, if the message has not been handled.
+   */
+  public CompletableFuture<ICommandResult> handle(final String message,
+          final ICommandSender sender) {
+    return submit(sender, () -> this.commandHandler.handle(message, sender));
+  }
+
+  /**
+   * Queues arguments to be handled on the lane of their {@link ICommandSender}.
+   * Note: The arguments are copied before they are queued.
+   *
+   * @param args   The arguments to be handled.
+   * @param sender The sender of the arguments.
+   * @return A future completed with the {@link ICommandResult} of the handled command,
+   *         {@link ICommandResult.ErrorOverloaded}, if the arguments have not been handled.
+   */
+  public CompletableFuture<ICommandResult> handle(final String[] args,
+          final ICommandSender sender) {
+    final CommandArgs commandArgs = CommandArgs.of(args.clone());
+
+    return submit(sender, () -> this.commandHandler.handle(commandArgs, sender));
+  }
+
+  private CompletableFuture<ICommandResult> submit(final ICommandSender sender,
+          final Supplier<ICommandResult> handling) {
+    final Task task = new Task(handling);
+
+    if (!this.running) {
+      reject(task);
+      return task.future;
+    }
+
+    final Lane lane = this.lanes[getLaneIndex(sender)];
+
+    if (!lane.offer(task)) {
+      reject(task);
+      return task.future;
+    }
+
+    // a lane does not take messages queued behind its stop, so they are taken back here
+    // instead of waiting forever
+    if (!lane.isAccepting() && lane.queue.remove(task)) {
+      reject(task);
+    }
+
+    return task.future;
+  }
+
+  private void reject(final Task task) {
+    this.rejected.increment();
+    task.future.complete(this.errorOverloaded);
+  }
+
+  /**
+   * Gets the index of the lane the messages of a {@link ICommandSender} are handled on.
+   *
+   * @param sender The sender of the messages.
+   * @return The index of the lane, 0, if there is no sender or it has no key.
+   */
+  public int getLaneIndex(final ICommandSender sender) {
+    final Object senderKey = sender == null ? null : sender.getSenderKey();
+
+    if (senderKey == null) {
+      return 0;
+    }
+
+    final int hash = senderKey.hashCode();
+
+    return Math.floorMod(hash ^ (hash >>> 16), this.lanes.length);
+  }
+
+  /**
+   * Stops accepting messages and waits until all queued messages have been handled.
+   */
+  @Override
+  public void close() {
+    this.running = false;
+
+    for (final Lane lane : this.lanes) {
+      lane.stop();
+    }
+
+    for (final Lane lane : this.lanes) {
+      lane.join();
+    }
+  }
+
+  /**
+   * Checks, if the sharded command handler still accepts messages.
+   *
+   * @return True, if it has not been closed yet, false, if otherwise.
+   */
+  public boolean isRunning() {
+    return this.running;
+  }
+
+  /**
+   * Gets the {@link CommandHandler} the messages are dispatched to.
+   *
+   * @return The command handler.
+   */
+  public CommandHandler getCommandHandler() {
+    return this.commandHandler;
+  }
+
+  /**
+   * Gets the number of lanes.
+   *
+   * @return The number of lanes.
+   */
+  public int getLaneCount() {
+    return this.lanes.length;
+  }
+
+  /**
+   * Gets the number of messages a lane can hold.
+   *
+   * @return The capacity of the queue of a lane.
+   */
+  public int getQueueCapacity() {
+    return this.queueCapacity;
+  }
+
+  /**
+   * Gets the policy applied, if the lane of a message is full.
+   *
+   * @return The overflow policy.
+   */
+  public OverflowPolicy getOverflowPolicy() {
+    return this.overflowPolicy;
+  }
+
+  /**
+   * Gets the number of messages waiting on a lane.
+   *
+   * @param laneIndex The index of the lane.
+   * @return The approximate number of queued messages.
+   */
+  public int getQueueDepth(final int laneIndex) {
+    return this.lanes[laneIndex].queue.size();
+  }
+
+  /**
+   * Gets the number of messages waiting on every lane.
+   *
+   * @return The approximate number of queued messages indexed by lane.
+   */
+  public int[] getQueueDepths() {
+    final int[] queueDepths = new int[this.lanes.length];
+
+    for (int i = 0; i < queueDepths.length; i++) {
+      queueDepths[i] = this.lanes[i].queue.size();
+    }
+
+    return queueDepths;
+  }
+
+  /**
+   * Gets the highest number of messages that have been waiting on a lane at the same time.
+   *
+   * @param laneIndex The index of the lane.
+   * @return The peak queue depth of the lane.
+   */
+  public int getPeakQueueDepth(final int laneIndex) {
+    return this.lanes[laneIndex].peakQueueDepth.get();
+  }
+
+  /**
+   * Gets the number of messages handled on all lanes.
+   *
+   * @return The number of handled messages.
+   */
+  public long getHandledCount() {
+    return this.handled.sum();
+  }
+
+  /**
+   * Gets the number of messages rejected or dropped because their lane was full or because the
+   * sharded command handler has been closed.
+   *
+   * @return The number of messages that have not been handled.
+   */
+  public long getRejectedCount() {
+    return this.rejected.sum();
+  }
+
+  /**
+   * What happens to a message, if the lane of its {@link ICommandSender} is full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * The message is rejected.
+     */
+    REJECT,
+    /**
+     * The thread submitting the message waits until there is space on the lane.
+     */
+    BLOCK,
+    /**
+     * The oldest message waiting on the lane is dropped to make space for the message.
+     */
+    DROP_OLDEST
+  }
+
+  /**
+   * A message queued on a {@link Lane} together with the future of its result.
+   */
+  private static final class Task {
+
+    /**
+     * Queued once on every lane when closing, so the lane stops after the messages before it.
+     */
+    private static final Task STOP = new Task(null);
+
+    private final Supplier<ICommandResult> handling;
+    private final CompletableFuture<ICommandResult> future = new CompletableFuture<>();
+
+    private Task(final Supplier<ICommandResult> handling) {
+      this.handling = handling;
+    }
+  }
+
+  /**
+   * A mailbox drained by a single thread.
+   */
+  private final class Lane {
+
+    private final BlockingQueue<Task> queue;
+    private final AtomicInteger peakQueueDepth = new AtomicInteger();
+    private final Thread worker;
+    private volatile boolean stopped;
+
+    private Lane(final int index, final int queueCapacity) {
+      this.queue = new ArrayBlockingQueue<>(queueCapacity);
+      this.worker = new Thread(this::drainLoop, "AlphaCommandCore-Lane-" + index);
+      this.worker.setDaemon(true);
+      this.worker.start();
+    }
+
+    private boolean offer(final Task task) {
+      switch (ShardedCommandHandler.this.overflowPolicy) {
+        case BLOCK:
+          try {
+            while (!this.queue.offer(task, BLOCK_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+              if (!isAccepting()) {
+                return false;
+              }
+            }
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+          }
+
+          break;
+        case DROP_OLDEST:
+          while (!this.queue.offer(task)) {
+            final Task oldest = this.queue.poll();
+
+            if (oldest == Task.STOP) {
+              // closing has begun, so the stop is queued again instead of the message
+              stop();
+              return false;
+            }
+
+            if (oldest != null) {
+              reject(oldest);
+            }
+          }
+
+          break;
+        default:
+          if (!this.queue.offer(task)) {
+            return false;
+          }
+      }
+
+      final int queueDepth = this.queue.size();
+
+      if (queueDepth > this.peakQueueDepth.get()) {
+        this.peakQueueDepth.accumulateAndGet(queueDepth, Math::max);
+      }
+
+      return true;
+    }
+
+    private boolean isAccepting() {
+      return ShardedCommandHandler.this.running && !this.stopped;
+    }
+
+    private void drainLoop() {
+      try {
+        while (true) {
+          final Task task = this.queue.take();
+
+          if (task == Task.STOP) {
+            return;
+          }
+
+          try {
+            task.future.complete(task.handling.get());
+          } catch (final RuntimeException e) {
+            task.future.completeExceptionally(e);
+          } catch (final Error e) {
+            task.future.completeExceptionally(e);
+            throw e;
+          }
+
+          ShardedCommandHandler.this.handled.increment();
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        this.stopped = true;
+        rejectQueued();
+      }
+    }
+
+    private void rejectQueued() {
+      Task task;
+
+      while ((task = this.queue.poll()) != null) {
+        if (task != Task.STOP) {
+          reject(task);
+        }
+      }
+    }
+
+    private void stop() {
+      boolean interrupted = false;
+
+      while (!this.stopped) {
+        try {
+          if (this.queue.offer(Task.STOP, BLOCK_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            break;
+          }
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        }
+      }
+
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private void join() {
+      if (Thread.currentThread() == this.worker) {
+        return;
+      }
+
+      try {
+        this.worker.join();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
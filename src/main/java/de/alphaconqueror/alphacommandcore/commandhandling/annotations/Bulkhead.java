@@ -0,0 +1,27 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the number of invocations of a command running at the same time. Further invocations
+ * are answered by
+ * {@link de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult.ErrorBulkheadFull}
+ * without waiting.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Bulkhead {
+
+  int maxConcurrent();
+}
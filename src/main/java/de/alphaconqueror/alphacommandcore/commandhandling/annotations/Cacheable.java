@@ -0,0 +1,49 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Declares the result of a command to only depend on its arguments, so the
+ * {@link de.alphaconqueror.alphacommandcore.commandhandling.ResultCache} of a
+ * {@link de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler} may answer repeated
+ * invocations without executing the command again.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Cacheable {
+
+  long ttl();
+
+  TimeUnit unit() default TimeUnit.SECONDS;
+
+  Scope scope() default Scope.GLOBAL;
+
+  /**
+   * The senders sharing a cached result.
+   */
+  enum Scope {
+
+    /**
+     * All senders share the results.
+     */
+    GLOBAL,
+
+    /**
+     * Every sender gets its own results, keyed by {@link
+     * de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender#getSenderKey()}.
+     */
+    SENDER
+  }
+}
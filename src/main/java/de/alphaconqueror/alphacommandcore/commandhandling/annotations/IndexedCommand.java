@@ -0,0 +1,29 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a public {@link de.alphaconqueror.alphacommandcore.commandhandling.ICommand} class with a
+ * public no-argument constructor to be added to the
+ * {@link de.alphaconqueror.alphacommandcore.commandhandling.CommandIndex} generated by the
+ * command index annotation processor.
+ * The processor rejects duplicate invokes at compile time, so the invokes have to equal the
+ * ones returned by the command, which is checked, when the index is registered.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface IndexedCommand {
+
+  String[] invokes();
+}
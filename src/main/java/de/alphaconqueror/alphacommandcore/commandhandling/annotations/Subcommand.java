@@ -0,0 +1,34 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a public method as a command registered by
+ * {@link de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler#registerSubcommands(
+ * Object)}.
+ * The method takes an {@link de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender}
+ * and either a {@code String[]} or a
+ * {@link de.alphaconqueror.alphacommandcore.commandhandling.CommandArgs} and returns an
+ * {@link de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult}.
+ * {@link PermissionRequired}, {@link OnlyAllowedSenders} and {@link RateLimit} are read from the
+ * same method.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Subcommand {
+
+  String[] invokes();
+
+  String[] arguments() default {};
+}
@@ -0,0 +1,34 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the time a command may run. The command is executed by a dedicated, bounded pool of
+ * threads, while the thread handling it waits at most until the time is up. Then the caller
+ * receives {@link de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult.ErrorTimedOut}
+ * right away and the command is cancelled by interrupting its thread.
+ * If the pool can not take the command, the caller receives
+ * {@link de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult.ErrorOverloaded}.
+ * Note: A command ignoring the interrupt keeps its thread of the pool and its slot of the
+ * {@link Bulkhead} until it returns.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Timeout {
+
+  long value();
+
+  TimeUnit unit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,349 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling.arguments;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandArgs;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The typed arguments of a {@link de.alphaconqueror.alphacommandcore.commandhandling.ICommand},
+ * compiled once into a parser producing {@link ParsedArguments}.
+ * Optional arguments always follow the required ones.
+ *
+ * <p>Example: {@code ArgumentSchema.builder().required("amount", ArgumentType.INTEGER)
+ * .range(1, 64).optional("duration", ArgumentType.DURATION).build()}
+ */
+public final class ArgumentSchema {
+
+  private final Argument[] arguments;
+  private final int requiredCount;
+
+  private ArgumentSchema(final Argument[] arguments, final int requiredCount) {
+    this.arguments = arguments;
+    this.requiredCount = requiredCount;
+  }
+
+  /**
+   * Creates a new {@link Builder}.
+   *
+   * @return The builder.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Parses the arguments of a command.
+   *
+   * @param args The arguments to be parsed.
+   * @return The parsed arguments, which are invalid, if an argument is missing, malformed or
+   *         out of range or if there are too many arguments.
+   */
+  public ParsedArguments parse(final String[] args) {
+    return parse(CommandArgs.of(args));
+  }
+
+  /**
+   * Parses the arguments of a command without copying them.
+   *
+   * @param args The arguments to be parsed.
+   * @return The parsed arguments, which are invalid, if an argument is missing, malformed or
+   *         out of range or if there are too many arguments.
+   */
+  public ParsedArguments parse(final CommandArgs args) {
+    final int size = args.size();
+
+    if (size < this.requiredCount) {
+      final Argument argument = this.arguments[size];
+
+      return new ParsedArguments(new ICommandResult.ErrorInvalidArgument(size,
+              argument.name, null, argument.describe()));
+    }
+
+    if (size > this.arguments.length) {
+      return new ParsedArguments(new ICommandResult.ErrorInvalidArgument(this.arguments.length,
+              null, args.get(this.arguments.length), null));
+    }
+
+    final long[] values = new long[this.arguments.length];
+
+    for (int i = 0; i < size; i++) {
+      final Argument argument = this.arguments[i];
+      final String arg = args.get(i);
+
+      if (!argument.type.parse(arg, values, i) || !argument.isInRange(values[i])) {
+        return new ParsedArguments(new ICommandResult.ErrorInvalidArgument(i, argument.name,
+                arg, argument.describe()));
+      }
+    }
+
+    return new ParsedArguments(this, args, values);
+  }
+
+  /**
+   * Gets the syntax of the arguments, e.g. {@code <int: amount>} for a required and
+   * {@code [duration: time]} for an optional argument.
+   *
+   * @return The syntax of every argument.
+   */
+  public String[] getSyntax() {
+    final String[] syntax = new String[this.arguments.length];
+
+    for (int i = 0; i < syntax.length; i++) {
+      final Argument argument = this.arguments[i];
+      final String content = argument.type.getDisplayName() + ": " + argument.name;
+
+      syntax[i] = i < this.requiredCount ? '<' + content + '>' : '[' + content + ']';
+    }
+
+    return syntax;
+  }
+
+  /**
+   * Gets the index of an argument.
+   *
+   * @param name The name of the argument.
+   * @return The index of the argument.
+   * @throws IllegalArgumentException if there is no argument with the name.
+   */
+  public int indexOf(final String name) {
+    for (int i = 0; i < this.arguments.length; i++) {
+      if (this.arguments[i].name.equals(name)) {
+        return i;
+      }
+    }
+
+    throw new IllegalArgumentException("Unknown argument: " + name);
+  }
+
+  /**
+   * Gets the number of arguments.
+   *
+   * @return The number of arguments.
+   */
+  public int size() {
+    return this.arguments.length;
+  }
+
+  /**
+   * Gets the number of required arguments.
+   *
+   * @return The number of required arguments.
+   */
+  public int getRequiredCount() {
+    return this.requiredCount;
+  }
+
+  /**
+   * Gets the name of an argument.
+   *
+   * @param index The index of the argument.
+   * @return The name of the argument.
+   */
+  public String getName(final int index) {
+    return this.arguments[index].name;
+  }
+
+  /**
+   * Gets the type of an argument.
+   *
+   * @param index The index of the argument.
+   * @return The type of the argument.
+   */
+  public ArgumentType getType(final int index) {
+    return this.arguments[index].type;
+  }
+
+  /**
+   * Builds an {@link ArgumentSchema}.
+   */
+  public static final class Builder {
+
+    private final List<Argument> arguments = new ArrayList<>();
+    private int requiredCount;
+
+    private Builder() { }
+
+    /**
+     * Adds a required argument.
+     *
+     * @param name The name of the argument.
+     * @param type The type of the argument.
+     * @return This builder.
+     * @throws IllegalArgumentException if the name is already used or an optional argument has
+     *                                  been added before.
+     */
+    public Builder required(final String name, final ArgumentType type) {
+      if (this.requiredCount != this.arguments.size()) {
+        throw new IllegalArgumentException("Required arguments have to precede optional ones.");
+      }
+
+      add(name, type);
+      this.requiredCount++;
+      return this;
+    }
+
+    /**
+     * Adds an optional argument.
+     *
+     * @param name The name of the argument.
+     * @param type The type of the argument.
+     * @return This builder.
+     * @throws IllegalArgumentException if the name is already used.
+     */
+    public Builder optional(final String name, final ArgumentType type) {
+      add(name, type);
+      return this;
+    }
+
+    private void add(final String name, final ArgumentType type) {
+      for (final Argument argument : this.arguments) {
+        if (argument.name.equals(name)) {
+          throw new IllegalArgumentException("Duplicate argument name.");
+        }
+      }
+
+      this.arguments.add(new Argument(name, type));
+    }
+
+    /**
+     * Restricts the last added {@link ArgumentType#INTEGER} or {@link ArgumentType#LONG}
+     * argument to a range.
+     *
+     * @param minimum The inclusive minimum.
+     * @param maximum The inclusive maximum.
+     * @return This builder.
+     * @throws IllegalArgumentException if the last argument is of another type.
+     */
+    public Builder range(final long minimum, final long maximum) {
+      final Argument argument = last(ArgumentType.INTEGER, ArgumentType.LONG);
+
+      argument.minimum = minimum;
+      argument.maximum = maximum;
+      argument.description = argument.type.getDisplayName() + " between " + minimum + " and "
+              + maximum;
+      return this;
+    }
+
+    /**
+     * Restricts the last added {@link ArgumentType#DOUBLE} argument to a range.
+     *
+     * @param minimum The inclusive minimum.
+     * @param maximum The inclusive maximum.
+     * @return This builder.
+     * @throws IllegalArgumentException if the last argument is of another type.
+     */
+    public Builder range(final double minimum, final double maximum) {
+      final Argument argument = last(ArgumentType.DOUBLE, ArgumentType.DOUBLE);
+
+      argument.doubleMinimum = minimum;
+      argument.doubleMaximum = maximum;
+      argument.description = argument.type.getDisplayName() + " between " + minimum + " and "
+              + maximum;
+      return this;
+    }
+
+    /**
+     * Restricts the last added {@link ArgumentType#DURATION} argument to a range.
+     *
+     * @param minimum The inclusive minimum.
+     * @param maximum The inclusive maximum.
+     * @param unit    The time unit of the minimum and the maximum.
+     * @return This builder.
+     * @throws IllegalArgumentException if the last argument is of another type.
+     */
+    public Builder range(final long minimum, final long maximum, final TimeUnit unit) {
+      final Argument argument = last(ArgumentType.DURATION, ArgumentType.DURATION);
+
+      argument.minimum = unit.toNanos(minimum);
+      argument.maximum = unit.toNanos(maximum);
+      argument.description = argument.type.getDisplayName() + " between "
+              + Duration.ofNanos(argument.minimum) + " and " + Duration.ofNanos(argument.maximum);
+      return this;
+    }
+
+    private Argument last(final ArgumentType type, final ArgumentType alternativeType) {
+      final Argument argument = this.arguments.isEmpty() ? null
+              : this.arguments.get(this.arguments.size() - 1);
+
+      if (argument == null || argument.type != type && argument.type != alternativeType) {
+        throw new IllegalArgumentException("The last argument can not be restricted so.");
+      }
+
+      return argument;
+    }
+
+    /**
+     * Compiles the {@link ArgumentSchema}.
+     *
+     * @return The argument schema.
+     */
+    public ArgumentSchema build() {
+      final Argument[] compiled = new Argument[this.arguments.size()];
+
+      for (int i = 0; i < compiled.length; i++) {
+        compiled[i] = this.arguments.get(i).copy();
+      }
+
+      return new ArgumentSchema(compiled, this.requiredCount);
+    }
+  }
+
+  /**
+   * A single argument of an {@link ArgumentSchema}.
+   */
+  private static final class Argument {
+
+    private final String name;
+    private final ArgumentType type;
+    private long minimum = Long.MIN_VALUE;
+    private long maximum = Long.MAX_VALUE;
+    private double doubleMinimum = Double.NEGATIVE_INFINITY;
+    private double doubleMaximum = Double.POSITIVE_INFINITY;
+    private String description;
+
+    private Argument(final String name, final ArgumentType type) {
+      this.name = name;
+      this.type = type;
+      this.description = type.getDisplayName();
+    }
+
+    private boolean isInRange(final long value) {
+      switch (this.type) {
+        case INTEGER:
+        case LONG:
+        case DURATION:
+          return value >= this.minimum && value <= this.maximum;
+        case DOUBLE:
+          final double doubleValue = Double.longBitsToDouble(value);
+
+          return doubleValue >= this.doubleMinimum && doubleValue <= this.doubleMaximum;
+        default:
+          return true;
+      }
+    }
+
+    private String describe() {
+      return this.description;
+    }
+
+    private Argument copy() {
+      final Argument argument = new Argument(this.name, this.type);
+
+      argument.minimum = this.minimum;
+      argument.maximum = this.maximum;
+      argument.doubleMinimum = this.doubleMinimum;
+      argument.doubleMaximum = this.doubleMaximum;
+      argument.description = this.description;
+      return argument;
+    }
+  }
+}
@@ -0,0 +1,267 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling.arguments;
+
+/**
+ * The types of arguments an {@link ArgumentSchema} can parse.
+ * Every type parses its input into a primitive long slot without throwing exceptions, so
+ * malformed input costs no more than valid input.
+ */
+public enum ArgumentType {
+
+  /**
+   * A 32-bit integer, e.g. {@code -42}.
+   */
+  INTEGER("int") {
+    @Override
+    boolean parse(final String input, final long[] values, final int index) {
+      return parseLong(input, values, index)
+              && values[index] >= Integer.MIN_VALUE && values[index] <= Integer.MAX_VALUE;
+    }
+  },
+  /**
+   * A 64-bit integer, e.g. {@code 9000000000}.
+   */
+  LONG("long") {
+    @Override
+    boolean parse(final String input, final long[] values, final int index) {
+      return parseLong(input, values, index);
+    }
+  },
+  /**
+   * A floating point number, e.g. {@code -1.5e3}.
+   */
+  DOUBLE("double") {
+    @Override
+    boolean parse(final String input, final long[] values, final int index) {
+      if (!isDecimal(input)) {
+        return false;
+      }
+
+      values[index] = Double.doubleToRawLongBits(Double.parseDouble(input));
+      return true;
+    }
+  },
+  /**
+   * A boolean, either {@code true} or {@code false}, ignoring case.
+   */
+  BOOLEAN("boolean") {
+    @Override
+    boolean parse(final String input, final long[] values, final int index) {
+      if ("true".equalsIgnoreCase(input)) {
+        values[index] = 1;
+        return true;
+      }
+
+      values[index] = 0;
+      return "false".equalsIgnoreCase(input);
+    }
+  },
+  /**
+   * A duration made of amounts followed by a unit, e.g. {@code 1h30m}. Supported units are
+   * ms, s, m, h, d and w. Stored in nanoseconds.
+   */
+  DURATION("duration") {
+    @Override
+    boolean parse(final String input, final long[] values, final int index) {
+      return parseDuration(input, values, index);
+    }
+  },
+  /**
+   * The raw argument.
+   */
+  STRING("String") {
+    @Override
+    boolean parse(final String input, final long[] values, final int index) {
+      return true;
+    }
+  };
+
+  private static final long MILLISECOND = 1_000_000L;
+  private static final long SECOND = 1_000 * MILLISECOND;
+  private static final long MINUTE = 60 * SECOND;
+  private static final long HOUR = 60 * MINUTE;
+  private static final long DAY = 24 * HOUR;
+  private static final long WEEK = 7 * DAY;
+
+  private final String displayName;
+
+  ArgumentType(final String displayName) {
+    this.displayName = displayName;
+  }
+
+  /**
+   * Parses an argument into its primitive representation.
+   *
+   * @param input  The argument to be parsed.
+   * @param values The values to store the result in.
+   * @param index  The index of the value.
+   * @return True, if the argument is well-formed, false, if otherwise.
+   */
+  abstract boolean parse(String input, long[] values, int index);
+
+  /**
+   * Gets the name of the type used in the syntax of a command.
+   *
+   * @return The display name.
+   */
+  public String getDisplayName() {
+    return this.displayName;
+  }
+
+  private static boolean parseLong(final String input, final long[] values, final int index) {
+    final int length = input.length();
+    final boolean negative = length > 0 && input.charAt(0) == '-';
+    int i = length > 0 && (negative || input.charAt(0) == '+') ? 1 : 0;
+
+    if (i == length) {
+      return false;
+    }
+
+    final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    final long multiplyLimit = limit / 10;
+    long result = 0;
+
+    // Accumulates negatively, so Long.MIN_VALUE can be parsed without overflowing.
+    for (; i < length; i++) {
+      final int digit = input.charAt(i) - '0';
+
+      if (digit < 0 || digit > 9 || result < multiplyLimit) {
+        return false;
+      }
+
+      result *= 10;
+
+      if (result < limit + digit) {
+        return false;
+      }
+
+      result -= digit;
+    }
+
+    values[index] = negative ? result : -result;
+    return true;
+  }
+
+  private static boolean isDecimal(final String input) {
+    final int length = input.length();
+    int i = 0;
+
+    if (i < length && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+      i++;
+    }
+
+    final int integerStart = i;
+
+    i = skipDigits(input, i);
+
+    int digits = i - integerStart;
+
+    if (i < length && input.charAt(i) == '.') {
+      final int fractionStart = ++i;
+
+      i = skipDigits(input, i);
+      digits += i - fractionStart;
+    }
+
+    if (digits == 0) {
+      return false;
+    }
+
+    if (i < length && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+      i++;
+
+      if (i < length && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+        i++;
+      }
+
+      final int exponentStart = i;
+
+      i = skipDigits(input, i);
+
+      if (i == exponentStart) {
+        return false;
+      }
+    }
+
+    return i == length;
+  }
+
+  private static int skipDigits(final String input, final int fromIndex) {
+    int i = fromIndex;
+
+    while (i < input.length() && input.charAt(i) >= '0' && input.charAt(i) <= '9') {
+      i++;
+    }
+
+    return i;
+  }
+
+  private static boolean parseDuration(final String input, final long[] values,
+          final int index) {
+    final int length = input.length();
+    long total = 0;
+    int i = 0;
+
+    if (length == 0) {
+      return false;
+    }
+
+    while (i < length) {
+      long amount = 0;
+      final int amountStart = i;
+
+      for (; i < length && input.charAt(i) >= '0' && input.charAt(i) <= '9'; i++) {
+        if (amount > (Long.MAX_VALUE - 9) / 10) {
+          return false;
+        }
+
+        amount = amount * 10 + input.charAt(i) - '0';
+      }
+
+      if (i == amountStart || i == length) {
+        return false;
+      }
+
+      final long unit;
+
+      if (input.startsWith("ms", i)) {
+        unit = MILLISECOND;
+        i += 2;
+      } else {
+        switch (input.charAt(i++)) {
+          case 's':
+            unit = SECOND;
+            break;
+          case 'm':
+            unit = MINUTE;
+            break;
+          case 'h':
+            unit = HOUR;
+            break;
+          case 'd':
+            unit = DAY;
+            break;
+          case 'w':
+            unit = WEEK;
+            break;
+          default:
+            return false;
+        }
+      }
+
+      if (amount > (Long.MAX_VALUE - total) / unit) {
+        return false;
+      }
+
+      total += amount * unit;
+    }
+
+    values[index] = total;
+    return true;
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling.arguments;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandArgs;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The arguments of a command parsed by an {@link ArgumentSchema}.
+ * Values are kept in their primitive representation and only the raw arguments are referenced,
+ * so accessing a value neither boxes nor allocates.
+ */
+public final class ParsedArguments {
+
+  private final ArgumentSchema schema;
+  private final CommandArgs args;
+  private final long[] values;
+  private final ICommandResult.ErrorInvalidArgument error;
+
+  ParsedArguments(final ArgumentSchema schema, final CommandArgs args, final long[] values) {
+    this.schema = schema;
+    this.args = args;
+    this.values = values;
+    this.error = null;
+  }
+
+  ParsedArguments(final ICommandResult.ErrorInvalidArgument error) {
+    this.schema = null;
+    this.args = null;
+    this.values = null;
+    this.error = error;
+  }
+
+  /**
+   * Checks, if all arguments have been parsed successfully.
+   *
+   * @return True, if the arguments are valid, false, if otherwise.
+   */
+  public boolean isValid() {
+    return this.error == null;
+  }
+
+  /**
+   * Gets the error describing why the arguments are invalid.
+   *
+   * @return The error, null, if the arguments are valid.
+   */
+  public ICommandResult.ErrorInvalidArgument getError() {
+    return this.error;
+  }
+
+  /**
+   * Gets the number of given arguments.
+   *
+   * @return The number of given arguments.
+   */
+  public int size() {
+    return this.args.size();
+  }
+
+  /**
+   * Checks, if an optional argument has been given.
+   *
+   * @param index The index of the argument.
+   * @return True, if the argument has been given, false, if otherwise.
+   */
+  public boolean isPresent(final int index) {
+    return index < this.args.size();
+  }
+
+  public boolean isPresent(final String name) {
+    return isPresent(this.schema.indexOf(name));
+  }
+
+  /**
+   * Gets the value of an {@link ArgumentType#INTEGER} argument.
+   *
+   * @param index The index of the argument.
+   * @return The value, 0, if the argument has not been given.
+   * @throws IllegalArgumentException if the argument is of another type.
+   */
+  public int getInt(final int index) {
+    return (int) value(index, ArgumentType.INTEGER);
+  }
+
+  public int getInt(final String name) {
+    return getInt(this.schema.indexOf(name));
+  }
+
+  /**
+   * Gets the value of an {@link ArgumentType#LONG} argument.
+   *
+   * @param index The index of the argument.
+   * @return The value, 0, if the argument has not been given.
+   * @throws IllegalArgumentException if the argument is of another type.
+   */
+  public long getLong(final int index) {
+    return value(index, ArgumentType.LONG);
+  }
+
+  public long getLong(final String name) {
+    return getLong(this.schema.indexOf(name));
+  }
+
+  /**
+   * Gets the value of an {@link ArgumentType#DOUBLE} argument.
+   *
+   * @param index The index of the argument.
+   * @return The value, 0, if the argument has not been given.
+   * @throws IllegalArgumentException if the argument is of another type.
+   */
+  public double getDouble(final int index) {
+    return Double.longBitsToDouble(value(index, ArgumentType.DOUBLE));
+  }
+
+  public double getDouble(final String name) {
+    return getDouble(this.schema.indexOf(name));
+  }
+
+  /**
+   * Gets the value of an {@link ArgumentType#BOOLEAN} argument.
+   *
+   * @param index The index of the argument.
+   * @return The value, false, if the argument has not been given.
+   * @throws IllegalArgumentException if the argument is of another type.
+   */
+  public boolean getBoolean(final int index) {
+    return value(index, ArgumentType.BOOLEAN) != 0;
+  }
+
+  public boolean getBoolean(final String name) {
+    return getBoolean(this.schema.indexOf(name));
+  }
+
+  /**
+   * Gets the value of an {@link ArgumentType#DURATION} argument.
+   *
+   * @param index The index of the argument.
+   * @param unit  The time unit the duration should be converted to.
+   * @return The duration, 0, if the argument has not been given.
+   * @throws IllegalArgumentException if the argument is of another type.
+   */
+  public long getDuration(final int index, final TimeUnit unit) {
+    return unit.convert(value(index, ArgumentType.DURATION), TimeUnit.NANOSECONDS);
+  }
+
+  public long getDuration(final String name, final TimeUnit unit) {
+    return getDuration(this.schema.indexOf(name), unit);
+  }
+
+  /**
+   * Gets the raw input of an argument of any type.
+   *
+   * @param index The index of the argument.
+   * @return The raw argument, null, if the argument has not been given.
+   */
+  public String getString(final int index) {
+    return isPresent(index) ? this.args.get(index) : null;
+  }
+
+  public String getString(final String name) {
+    return getString(this.schema.indexOf(name));
+  }
+
+  /**
+   * Gets all raw arguments.
+   *
+   * @return The raw arguments.
+   */
+  public String[] getRawArgs() {
+    return this.args.toArray();
+  }
+
+  /**
+   * Gets all raw arguments without copying them.
+   *
+   * @return The raw arguments.
+   */
+  public CommandArgs getCommandArgs() {
+    return this.args;
+  }
+
+  private long value(final int index, final ArgumentType type) {
+    if (this.schema.getType(index) != type) {
+      throw new IllegalArgumentException("Argument " + this.schema.getName(index)
+              + " is not of type " + type + ".");
+    }
+
+    return isPresent(index) ? this.values[index] : 0;
+  }
+}
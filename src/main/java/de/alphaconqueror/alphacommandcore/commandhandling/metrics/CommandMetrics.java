@@ -0,0 +1,198 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling.metrics;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dispatch metrics of a {@link CommandHandler}, recorded with {@link LongAdder}s and
+ * {@link LatencyHistogram}s so recording never blocks.
+ * The parse phase covers everything from the call symbol check to the command lookup, the
+ * authorization phase the sender, permission and rate limit checks and the execution phase
+ * {@link ICommand#handle(de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender,
+ * String[])} itself.
+ */
+public final class CommandMetrics {
+
+  private final LatencyHistogram parseLatency = new LatencyHistogram();
+  private final LatencyHistogram authorizationLatency = new LatencyHistogram();
+  private final LatencyHistogram executionLatency = new LatencyHistogram();
+  private final Map<ICommand, CommandStats> commandStats = new ConcurrentHashMap<>();
+  private final Map<Class<?>, LongAdder> resultCounts = new ConcurrentHashMap<>();
+
+  /**
+   * Records the duration of the parse phase.
+   *
+   * @param nanos The duration in nanoseconds.
+   */
+  public void recordParse(final long nanos) {
+    this.parseLatency.record(nanos);
+  }
+
+  /**
+   * Records the duration of the authorization phase.
+   *
+   * @param nanos The duration in nanoseconds.
+   */
+  public void recordAuthorization(final long nanos) {
+    this.authorizationLatency.record(nanos);
+  }
+
+  /**
+   * Records an execution of a {@link ICommand}.
+   *
+   * @param command The executed command.
+   * @param nanos   The duration of the execution in nanoseconds.
+   */
+  public void recordExecution(final ICommand command, final long nanos) {
+    final CommandStats stats = this.commandStats
+            .computeIfAbsent(command, key -> new CommandStats());
+
+    stats.invocations.increment();
+    stats.latency.record(nanos);
+    this.executionLatency.record(nanos);
+  }
+
+  /**
+   * Removes the invocations and the latencies recorded for a {@link ICommand}, e.g. after it has
+   * been unregistered.
+   * Note: An execution of the command still running may record it again.
+   *
+   * @param command The command to be removed.
+   */
+  public void removeCommand(final ICommand command) {
+    this.commandStats.remove(command);
+  }
+
+  /**
+   * Counts a {@link ICommandResult} by its class.
+   *
+   * @param commandResult The result to be counted, null is ignored.
+   */
+  public void recordResult(final ICommandResult commandResult) {
+    if (commandResult != null) {
+      this.resultCounts.computeIfAbsent(commandResult.getClass(), key -> new LongAdder())
+              .increment();
+    }
+  }
+
+  /**
+   * Creates a snapshot of the recorded metrics.
+   *
+   * @return The snapshot.
+   */
+  public Snapshot snapshot() {
+    final Map<ICommand, Long> invocations = new HashMap<>();
+    final Map<ICommand, LatencyHistogram.Snapshot> commandLatencies = new HashMap<>();
+    final Map<Class<?>, Long> resultCounts = new HashMap<>();
+
+    this.commandStats.forEach((command, stats) -> {
+      invocations.put(command, stats.invocations.sum());
+      commandLatencies.put(command, stats.latency.snapshot());
+    });
+    this.resultCounts.forEach((type, count) -> resultCounts.put(type, count.sum()));
+
+    return new Snapshot(this.parseLatency.snapshot(), this.authorizationLatency.snapshot(),
+            this.executionLatency.snapshot(), invocations, commandLatencies, resultCounts);
+  }
+
+  /**
+   * The counters of a single {@link ICommand}.
+   */
+  private static final class CommandStats {
+
+    private final LongAdder invocations = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+  }
+
+  /**
+   * An immutable snapshot of {@link CommandMetrics}.
+   */
+  public static final class Snapshot {
+
+    private final LatencyHistogram.Snapshot parseLatency;
+    private final LatencyHistogram.Snapshot authorizationLatency;
+    private final LatencyHistogram.Snapshot executionLatency;
+    private final Map<ICommand, Long> invocations;
+    private final Map<ICommand, LatencyHistogram.Snapshot> commandLatencies;
+    private final Map<Class<?>, Long> resultCounts;
+
+    private Snapshot(final LatencyHistogram.Snapshot parseLatency,
+            final LatencyHistogram.Snapshot authorizationLatency,
+            final LatencyHistogram.Snapshot executionLatency,
+            final Map<ICommand, Long> invocations,
+            final Map<ICommand, LatencyHistogram.Snapshot> commandLatencies,
+            final Map<Class<?>, Long> resultCounts) {
+      this.parseLatency = parseLatency;
+      this.authorizationLatency = authorizationLatency;
+      this.executionLatency = executionLatency;
+      this.invocations = Map.copyOf(invocations);
+      this.commandLatencies = Map.copyOf(commandLatencies);
+      this.resultCounts = Map.copyOf(resultCounts);
+    }
+
+    /**
+     * Gets the latencies of the parse phase.
+     *
+     * @return The parse latencies.
+     */
+    public LatencyHistogram.Snapshot getParseLatency() {
+      return this.parseLatency;
+    }
+
+    /**
+     * Gets the latencies of the authorization phase.
+     *
+     * @return The authorization latencies.
+     */
+    public LatencyHistogram.Snapshot getAuthorizationLatency() {
+      return this.authorizationLatency;
+    }
+
+    /**
+     * Gets the latencies of the execution phase of all commands.
+     *
+     * @return The execution latencies.
+     */
+    public LatencyHistogram.Snapshot getExecutionLatency() {
+      return this.executionLatency;
+    }
+
+    /**
+     * Gets the number of executions per {@link ICommand}.
+     *
+     * @return An unmodifiable map of the executions per command.
+     */
+    public Map<ICommand, Long> getInvocations() {
+      return this.invocations;
+    }
+
+    /**
+     * Gets the execution latencies per {@link ICommand}.
+     *
+     * @return An unmodifiable map of the execution latencies per command.
+     */
+    public Map<ICommand, LatencyHistogram.Snapshot> getCommandLatencies() {
+      return this.commandLatencies;
+    }
+
+    /**
+     * Gets the number of {@link ICommandResult}s per result class.
+     *
+     * @return An unmodifiable map of the result counts per result class.
+     */
+    public Map<Class<?>, Long> getResultCounts() {
+      return this.resultCounts;
+    }
+  }
+}
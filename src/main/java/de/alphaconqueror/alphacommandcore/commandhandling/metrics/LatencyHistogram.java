@@ -0,0 +1,162 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.commandhandling.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds with buckets growing by powers of two.
+ * Bucket i counts the latencies in [2^(i-1), 2^i), bucket 0 counts latencies of 0.
+ */
+public final class LatencyHistogram {
+
+  private static final int BUCKET_COUNT = Long.SIZE + 1;
+
+  private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Constructor of {@link LatencyHistogram}.
+   */
+  public LatencyHistogram() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      this.buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records a latency.
+   *
+   * @param nanos The latency in nanoseconds, negative values are recorded as 0.
+   */
+  public void record(final long nanos) {
+    final long latency = Math.max(0, nanos);
+
+    this.buckets[Long.SIZE - Long.numberOfLeadingZeros(latency)].increment();
+    this.sum.add(latency);
+    this.max.accumulate(latency);
+  }
+
+  /**
+   * Creates a snapshot of the recorded latencies.
+   * Note: Latencies recorded concurrently may be partially included.
+   *
+   * @return The snapshot.
+   */
+  public Snapshot snapshot() {
+    final long[] counts = new long[BUCKET_COUNT];
+
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = this.buckets[i].sum();
+    }
+
+    return new Snapshot(counts, this.sum.sum(), this.max.get());
+  }
+
+  /**
+   * An immutable snapshot of a {@link LatencyHistogram}.
+   */
+  public static final class Snapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    private Snapshot(final long[] counts, final long sum, final long max) {
+      long count = 0;
+
+      for (final long bucketCount : counts) {
+        count += bucketCount;
+      }
+
+      this.counts = counts;
+      this.count = count;
+      this.sum = sum;
+      this.max = max;
+    }
+
+    /**
+     * Gets the number of recorded latencies.
+     *
+     * @return The number of recorded latencies.
+     */
+    public long getCount() {
+      return this.count;
+    }
+
+    /**
+     * Gets the sum of all recorded latencies.
+     *
+     * @return The sum in nanoseconds.
+     */
+    public long getSum() {
+      return this.sum;
+    }
+
+    /**
+     * Gets the highest recorded latency.
+     *
+     * @return The highest latency in nanoseconds.
+     */
+    public long getMax() {
+      return this.max;
+    }
+
+    /**
+     * Gets the mean of all recorded latencies.
+     *
+     * @return The mean in nanoseconds, 0, if nothing has been recorded.
+     */
+    public double getMean() {
+      return this.count == 0 ? 0 : (double) this.sum / this.count;
+    }
+
+    /**
+     * Gets an upper bound of a percentile of the recorded latencies.
+     *
+     * @param percentile The percentile between 0 and 1.
+     * @return The exclusive upper bound of the bucket containing the percentile in
+     *         nanoseconds, 0, if nothing has been recorded.
+     */
+    public long getPercentile(final double percentile) {
+      final long rank = (long) Math.ceil(percentile * this.count);
+      long cumulative = 0;
+
+      for (int i = 0; i < this.counts.length; i++) {
+        cumulative += this.counts[i];
+
+        if (cumulative >= rank && cumulative > 0) {
+          return getUpperBound(i);
+        }
+      }
+
+      return 0;
+    }
+
+    /**
+     * Gets the number of latencies recorded in each bucket.
+     *
+     * @return A copy of the bucket counts.
+     */
+    public long[] getCounts() {
+      return this.counts.clone();
+    }
+
+    /**
+     * Gets the exclusive upper bound of a bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The upper bound in nanoseconds.
+     */
+    public static long getUpperBound(final int bucket) {
+      return bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+  }
+}
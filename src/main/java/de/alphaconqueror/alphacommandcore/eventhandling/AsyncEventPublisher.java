@@ -0,0 +1,308 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.eventhandling;
+
+import de.alphaconqueror.alphaeventcore.AlphaEventCore;
+import de.alphaconqueror.alphaeventcore.eventhandling.Event;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Publishes {@link Event}s on a dedicated consumer thread instead of the thread handling the
+ * command, so slow listeners do not add to the latency of a command.
+ * Events are queued in a bounded lock-free ring buffer and drained in batches. What happens,
+ * if the buffer is full, is decided by the {@link BackpressurePolicy}.
+ */
+public final class AsyncEventPublisher implements AutoCloseable {
+
+  private static final int BATCH_SIZE = 256;
+  private static final long BLOCK_PARK_NANOS = 10_000;
+
+  private final EventRingBuffer<Event> buffer;
+  private final BackpressurePolicy backpressurePolicy;
+  private final int sampleRate;
+  private final Consumer<? super Event> dispatcher;
+  private final AtomicLong sampleCounter = new AtomicLong();
+  private final LongAdder published = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final Thread consumer;
+  private volatile boolean running = true;
+  private volatile boolean parked;
+  private volatile Consumer<? super RuntimeException> errorHandler;
+
+  /**
+   * Constructor of {@link AsyncEventPublisher}.
+   * Starts the consumer thread right away.
+   *
+   * @param capacity           The minimum capacity of the buffer, rounded up to the next power
+   *                           of two.
+   * @param backpressurePolicy The policy applied, if the buffer is full.
+   */
+  public AsyncEventPublisher(final int capacity, final BackpressurePolicy backpressurePolicy) {
+    this(capacity, backpressurePolicy, 1);
+  }
+
+  /**
+   * Constructor of {@link AsyncEventPublisher}.
+   * Starts the consumer thread right away.
+   *
+   * @param capacity           The minimum capacity of the buffer, rounded up to the next power
+   *                           of two.
+   * @param backpressurePolicy The policy applied, if the buffer is full.
+   * @param sampleRate         Every how many events one is kept, once the buffer is half full
+   *                           under {@link BackpressurePolicy#SAMPLE}.
+   * @throws IllegalArgumentException if the capacity or the sample rate are not positive.
+   */
+  public AsyncEventPublisher(final int capacity, final BackpressurePolicy backpressurePolicy,
+          final int sampleRate) {
+    this(capacity, backpressurePolicy, sampleRate, AlphaEventCore::callEvent);
+  }
+
+  /**
+   * Constructor of {@link AsyncEventPublisher} handing the events to a dispatcher instead of
+   * {@link AlphaEventCore#callEvent(Event)}.
+   * Starts the consumer thread right away.
+   *
+   * @param capacity           The minimum capacity of the buffer, rounded up to the next power
+   *                           of two.
+   * @param backpressurePolicy The policy applied, if the buffer is full.
+   * @param sampleRate         Every how many events one is kept, once the buffer is half full
+   *                           under {@link BackpressurePolicy#SAMPLE}.
+   * @param dispatcher         The dispatcher called with every event on the consumer thread.
+   * @throws IllegalArgumentException if the capacity or the sample rate are not positive.
+   */
+  public AsyncEventPublisher(final int capacity, final BackpressurePolicy backpressurePolicy,
+          final int sampleRate, final Consumer<? super Event> dispatcher) {
+    if (sampleRate <= 0) {
+      throw new IllegalArgumentException("Sample rate has to be positive.");
+    }
+
+    this.buffer = new EventRingBuffer<>(capacity);
+    this.backpressurePolicy = backpressurePolicy;
+    this.sampleRate = sampleRate;
+    this.dispatcher = dispatcher;
+    this.consumer = new Thread(this::drainLoop, "AlphaCommandCore-EventPublisher");
+    this.consumer.setDaemon(true);
+    this.consumer.start();
+  }
+
+  /**
+   * Sets the handler of exceptions thrown by listeners while publishing an {@link Event}.
+   * Note: The handler is called on the consumer thread.
+   *
+   * @param errorHandler The error handler, null, to only count the failures.
+   * @return This publisher.
+   */
+  public AsyncEventPublisher setErrorHandler(
+          final Consumer<? super RuntimeException> errorHandler) {
+    this.errorHandler = errorHandler;
+    return this;
+  }
+
+  /**
+   * Queues an {@link Event} to be published by the consumer thread.
+   *
+   * @param event The event to be published.
+   * @return True, if the event has been queued, false, if it has been dropped.
+   */
+  public boolean publish(final Event event) {
+    if (!this.running || !offer(event)) {
+      this.dropped.increment();
+      return false;
+    }
+
+    if (this.parked) {
+      LockSupport.unpark(this.consumer);
+    }
+
+    return true;
+  }
+
+  private boolean offer(final Event event) {
+    switch (this.backpressurePolicy) {
+      case BLOCK:
+        while (!this.buffer.offer(event)) {
+          if (!this.running || Thread.currentThread().isInterrupted()) {
+            return false;
+          }
+
+          LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+        }
+
+        return true;
+      case SAMPLE:
+        if (this.buffer.size() >= this.buffer.capacity() / 2
+                && this.sampleCounter.getAndIncrement() % this.sampleRate != 0) {
+          return false;
+        }
+
+        return this.buffer.offer(event);
+      default:
+        return this.buffer.offer(event);
+    }
+  }
+
+  private void drainLoop() {
+    final Event[] batch = new Event[BATCH_SIZE];
+
+    while (true) {
+      int size = 0;
+      Event event;
+
+      while (size < BATCH_SIZE && (event = this.buffer.poll()) != null) {
+        batch[size++] = event;
+      }
+
+      if (size == 0) {
+        if (!this.running && this.buffer.size() == 0) {
+          return;
+        }
+
+        this.parked = true;
+
+        if (this.running && this.buffer.size() == 0) {
+          LockSupport.park(this);
+        }
+
+        this.parked = false;
+        continue;
+      }
+
+      for (int i = 0; i < size; i++) {
+        try {
+          this.dispatcher.accept(batch[i]);
+        } catch (final RuntimeException e) {
+          this.failed.increment();
+
+          final Consumer<? super RuntimeException> errorHandler = this.errorHandler;
+
+          if (errorHandler != null) {
+            errorHandler.accept(e);
+          }
+        }
+
+        batch[i] = null;
+      }
+
+      this.published.add(size);
+    }
+  }
+
+  /**
+   * Stops accepting events and waits until all queued events have been published.
+   */
+  @Override
+  public void close() {
+    this.running = false;
+    LockSupport.unpark(this.consumer);
+
+    if (Thread.currentThread() == this.consumer) {
+      return;
+    }
+
+    try {
+      this.consumer.join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Checks, if the publisher still accepts events.
+   *
+   * @return True, if the publisher has not been closed yet, false, if otherwise.
+   */
+  public boolean isRunning() {
+    return this.running;
+  }
+
+  /**
+   * Gets the number of events published by the consumer thread.
+   *
+   * @return The number of published events.
+   */
+  public long getPublishedCount() {
+    return this.published.sum();
+  }
+
+  /**
+   * Gets the number of events dropped because the buffer was full, because they were sampled
+   * out or because the publisher has been closed.
+   *
+   * @return The number of dropped events.
+   */
+  public long getDroppedCount() {
+    return this.dropped.sum();
+  }
+
+  /**
+   * Gets the number of events whose listeners threw an exception while being published.
+   *
+   * @return The number of failed events.
+   */
+  public long getFailedCount() {
+    return this.failed.sum();
+  }
+
+  /**
+   * Gets the handler of exceptions thrown by listeners.
+   *
+   * @return The error handler, null, if failures are only counted.
+   */
+  public Consumer<? super RuntimeException> getErrorHandler() {
+    return this.errorHandler;
+  }
+
+  /**
+   * Gets the number of events waiting to be published.
+   *
+   * @return The approximate number of queued events.
+   */
+  public int getQueueSize() {
+    return this.buffer.size();
+  }
+
+  /**
+   * Gets the capacity of the buffer.
+   *
+   * @return The capacity.
+   */
+  public int getCapacity() {
+    return this.buffer.capacity();
+  }
+
+  /**
+   * Gets the policy applied, if the buffer is full.
+   *
+   * @return The backpressure policy.
+   */
+  public BackpressurePolicy getBackpressurePolicy() {
+    return this.backpressurePolicy;
+  }
+
+  /**
+   * What happens to an event, if the buffer is full.
+   */
+  public enum BackpressurePolicy {
+    /**
+     * The event is dropped.
+     */
+    DROP,
+    /**
+     * The thread handling the command waits until there is space in the buffer.
+     */
+    BLOCK,
+    /**
+     * Only every n-th event is kept, once the buffer is half full, and the event is dropped,
+     * if the buffer is full.
+     */
+    SAMPLE
+  }
+}
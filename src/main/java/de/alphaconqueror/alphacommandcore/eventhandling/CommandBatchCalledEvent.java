@@ -0,0 +1,47 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.eventhandling;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphaeventcore.eventhandling.Event;
+import java.util.List;
+
+public class CommandBatchCalledEvent extends Event {
+
+  private final CommandHandler commandHandler;
+  private final List<CommandCalledEvent> events;
+
+  /**
+   * Constructor of {@link CommandBatchCalledEvent}.
+   *
+   * @param commandHandler The command handler used to handle the batch.
+   * @param events         The events of the single messages in input order.
+   */
+  public CommandBatchCalledEvent(final CommandHandler commandHandler,
+          final List<CommandCalledEvent> events) {
+    this.commandHandler = commandHandler;
+    this.events = List.copyOf(events);
+  }
+
+  /**
+   * Gets the {@link CommandHandler} used to handle the batch.
+   *
+   * @return The command handler used.
+   */
+  public CommandHandler getCommandHandler() {
+    return this.commandHandler;
+  }
+
+  /**
+   * Gets the {@link CommandCalledEvent}s of the single messages in input order.
+   *
+   * @return An unmodifiable list of the events.
+   */
+  public List<CommandCalledEvent> getEvents() {
+    return this.events;
+  }
+}
@@ -6,6 +6,7 @@
 
 package de.alphaconqueror.alphacommandcore.eventhandling;
 
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandArgs;
 import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
 import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
 import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
@@ -15,7 +16,7 @@ public class CommandCalledEvent extends Event {
 
   private final ICommandSender sender;
   private final CommandHandler commandHandler;
-  private final String[] args;
+  private final CommandArgs args;
   private final ICommandResult commandResult;
 
   /**
@@ -28,9 +29,23 @@ public class CommandCalledEvent extends Event {
    */
   public CommandCalledEvent(final ICommandSender sender, final CommandHandler commandHandler,
           final String[] args, final ICommandResult commandResult) {
+    this(sender, commandHandler, CommandArgs.of(args.clone()), commandResult);
+  }
+
+  /**
+   * Constructor of {@link CommandCalledEvent} sharing the arguments with the command.
+   * Note: The arguments are only copied, if requested by {@link #getArgs()}.
+   *
+   * @param sender         The sender of the command.
+   * @param commandHandler The command handler used to handle the command.
+   * @param args           The arguments given by the sender.
+   * @param commandResult  The command result after handling the command.
+   */
+  public CommandCalledEvent(final ICommandSender sender, final CommandHandler commandHandler,
+          final CommandArgs args, final ICommandResult commandResult) {
     this.sender = sender;
     this.commandHandler = commandHandler;
-    this.args = args.clone();
+    this.args = args;
     this.commandResult = commandResult;
   }
 
@@ -58,7 +73,16 @@ public class CommandCalledEvent extends Event {
    * @return The arguments given by the sender.
    */
   public String[] getArgs() {
-    return this.args.clone();
+    return this.args.toArray();
+  }
+
+  /**
+   * Gets the arguments given by the sender without copying them.
+   *
+   * @return The arguments given by the sender.
+   */
+  public CommandArgs getCommandArgs() {
+    return this.args;
   }
 
   /**
@@ -0,0 +1,119 @@
+/*
+ * @author: AlphaConqueror
+ * Copyright (c) 2020
+ * All rights reserved.
+ */
+
+package de.alphaconqueror.alphacommandcore.eventhandling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded lock-free ring buffer for many producers and a single consumer.
+ * Every slot carries a sequence number telling producers and the consumer whether the slot is
+ * free or filled for the current lap, so neither side ever takes a lock.
+ *
+ * @param <E> The type of the elements.
+ */
+final class EventRingBuffer<E> {
+
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+  private final int mask;
+
+  /**
+   * Constructor of {@link EventRingBuffer}.
+   *
+   * @param capacity The minimum capacity, rounded up to the next power of two.
+   * @throws IllegalArgumentException if the capacity is not positive or too large.
+   */
+  EventRingBuffer(final int capacity) {
+    if (capacity <= 0 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("Illegal capacity: " + capacity);
+    }
+
+    final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+
+    this.elements = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    this.mask = size - 1;
+
+    for (int i = 0; i < size; i++) {
+      this.sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Adds an element, if there is space left.
+   *
+   * @param element The element to be added.
+   * @return True, if the element has been added, false, if the buffer is full.
+   */
+  boolean offer(final E element) {
+    long position = this.tail.get();
+
+    while (true) {
+      final int index = (int) position & this.mask;
+      final long difference = this.sequences.get(index) - position;
+
+      if (difference == 0) {
+        if (this.tail.compareAndSet(position, position + 1)) {
+          this.elements.set(index, element);
+          this.sequences.lazySet(index, position + 1);
+          return true;
+        }
+
+        position = this.tail.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = this.tail.get();
+      }
+    }
+  }
+
+  /**
+   * Removes the oldest element.
+   * Note: Must only be called by the single consumer.
+   *
+   * @return The oldest element, null, if the buffer is empty.
+   */
+  E poll() {
+    final long position = this.head.get();
+    final int index = (int) position & this.mask;
+
+    if (this.sequences.get(index) != position + 1) {
+      return null;
+    }
+
+    final E element = this.elements.get(index);
+
+    this.elements.lazySet(index, null);
+    this.sequences.lazySet(index, position + this.mask + 1);
+    this.head.lazySet(position + 1);
+
+    return element;
+  }
+
+  /**
+   * Gets the number of elements currently in the buffer.
+   *
+   * @return The approximate number of elements.
+   */
+  int size() {
+    return (int) Math.max(0, Math.min(this.tail.get() - this.head.get(), this.mask + 1L));
+  }
+
+  /**
+   * Gets the capacity of the buffer.
+   *
+   * @return The capacity.
+   */
+  int capacity() {
+    return this.mask + 1;
+  }
+}
@@ -0,0 +1,84 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.AliasCommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.InvokesCommand;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class AliasTest {
+
+  private CommandHandler commandHandler;
+  private AliasCommand aliasCommand;
+
+  @BeforeEach
+  void init() {
+    this.aliasCommand = new AliasCommand(new String[]{"team", "list"}, new String[]{"tl"},
+            new String[]{"team", "ls"});
+    this.commandHandler = new CommandHandler("/");
+    this.commandHandler.registerCommand(this.aliasCommand);
+  }
+
+  @Test
+  void aliasTest() {
+    assertTrue(this.commandHandler.handle("/tl a", mock(ICommandSender.class)).isExecutable());
+    assertArrayEquals(new String[]{"a"}, this.aliasCommand.receivedArgs);
+    assertTrue(this.commandHandler.handle("/team ls b", mock(ICommandSender.class))
+            .isExecutable());
+    assertArrayEquals(new String[]{"b"}, this.aliasCommand.receivedArgs);
+    assertEquals(1, this.commandHandler.getCommands().size());
+    assertThrows(UnsupportedOperationException.class,
+            () -> this.commandHandler.registerCommand(new InvokesCommand("tl")));
+  }
+
+  @Test
+  void unregisterTest() {
+    assertTrue(this.commandHandler.unregisterCommand(this.aliasCommand));
+    assertEquals(ICommandResult.ErrorCommandNotFound.class,
+            this.commandHandler.handle("/tl", mock(ICommandSender.class)).getClass());
+    assertEquals(ICommandResult.ErrorCommandNotFound.class,
+            this.commandHandler.handle("/team ls", mock(ICommandSender.class)).getClass());
+  }
+
+  @Test
+  void ignoreCaseTest() {
+    this.commandHandler.addDefaultInvokes("Admin").setIgnoreCase(true);
+
+    assertTrue(this.commandHandler.isIgnoringCase());
+    assertTrue(this.commandHandler.handle("/ADMIN TEAM List x", mock(ICommandSender.class))
+            .isExecutable());
+    assertArrayEquals(new String[]{"x"}, this.aliasCommand.receivedArgs);
+    assertTrue(this.commandHandler.handle("/admin TL", mock(ICommandSender.class))
+            .isExecutable());
+    assertEquals(List.of("team"), this.commandHandler.suggest("/admin TE",
+            mock(ICommandSender.class)));
+    assertEquals(List.of("Admin"), this.commandHandler.suggest("/ad",
+            mock(ICommandSender.class)));
+
+    this.commandHandler.setIgnoreCase(false);
+
+    assertEquals(ICommandResult.ErrorNoInvokeMatch.class,
+            this.commandHandler.handle("/ADMIN team list", mock(ICommandSender.class))
+                    .getClass());
+  }
+
+  @Test
+  void caseDuplicateTest() {
+    this.commandHandler.registerCommand(new InvokesCommand("Test"));
+    this.commandHandler.registerCommand(new InvokesCommand("test"));
+
+    assertThrows(UnsupportedOperationException.class,
+            () -> this.commandHandler.setIgnoreCase(true));
+  }
+}
@@ -0,0 +1,72 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.commandresults.TestResult1;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.TestCommand1;
+import de.alphaconqueror.alphacommandcore.eventhandling.AsyncEventPublisher;
+import de.alphaconqueror.alphacommandcore.eventhandling.AsyncEventPublisher.BackpressurePolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class AsyncEventPublisherTest {
+
+  private CommandHandler commandHandler;
+
+  @BeforeEach
+  void init() {
+    this.commandHandler = new CommandHandler("/");
+    this.commandHandler.registerCommand(new TestCommand1());
+  }
+
+  @Test
+  void publishTest() {
+    final AsyncEventPublisher eventPublisher =
+            new AsyncEventPublisher(1000, BackpressurePolicy.BLOCK);
+
+    this.commandHandler.setEventPublisher(eventPublisher);
+
+    for (int i = 0; i < 5000; i++) {
+      assertTrue(this.commandHandler.handle("/test", mock(ICommandSender.class))
+              instanceof TestResult1);
+    }
+
+    eventPublisher.close();
+
+    assertEquals(1024, eventPublisher.getCapacity());
+    assertEquals(5000L, eventPublisher.getPublishedCount());
+    assertEquals(0L, eventPublisher.getDroppedCount());
+    assertEquals(0, eventPublisher.getQueueSize());
+  }
+
+  @Test
+  void closedTest() {
+    final AsyncEventPublisher eventPublisher =
+            new AsyncEventPublisher(4, BackpressurePolicy.DROP);
+
+    this.commandHandler.setEventPublisher(eventPublisher);
+    eventPublisher.close();
+
+    assertFalse(eventPublisher.isRunning());
+    assertTrue(this.commandHandler.handle("/test", mock(ICommandSender.class))
+            instanceof TestResult1);
+    assertEquals(0L, eventPublisher.getPublishedCount());
+    assertEquals(1L, eventPublisher.getDroppedCount());
+  }
+
+  @Test
+  void illegalArgumentsTest() {
+    assertThrows(IllegalArgumentException.class,
+            () -> new AsyncEventPublisher(0, BackpressurePolicy.DROP));
+    assertThrows(IllegalArgumentException.class,
+            () -> new AsyncEventPublisher(4, BackpressurePolicy.SAMPLE, 0));
+  }
+}
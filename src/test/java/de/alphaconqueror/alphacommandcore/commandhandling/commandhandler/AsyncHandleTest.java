@@ -0,0 +1,70 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.AllowedSenderCommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.TestCommand1;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class AsyncHandleTest {
+
+  private final AtomicReference<Thread> executingThread = new AtomicReference<>();
+  private ExecutorService executor;
+  private CommandHandler commandHandler;
+
+  @BeforeEach
+  void init() {
+    this.executor = Executors.newSingleThreadExecutor();
+    this.commandHandler = new CommandHandler("/").setExecutor(command -> this.executor
+            .execute(() -> {
+              this.executingThread.set(Thread.currentThread());
+              command.run();
+            }));
+    this.commandHandler.registerCommand(new TestCommand1());
+    this.commandHandler.registerCommand(new AllowedSenderCommand() {
+      @Override
+      public String[] getInvokes() {
+        return new String[]{"allowed"};
+      }
+    });
+  }
+
+  @AfterEach
+  void shutdown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  void executedOnExecutorTest() {
+    final CompletableFuture<ICommandResult> future = this.commandHandler
+            .handleAsync("/test", mock(ICommandSender.class));
+
+    assertTrue(future.join().isExecutable());
+    assertNotSame(Thread.currentThread(), this.executingThread.get());
+  }
+
+  @Test
+  void rejectedOnCallingThreadTest() {
+    final CompletableFuture<ICommandResult> future = this.commandHandler
+            .handleAsync("/allowed", mock(ICommandSender.class));
+
+    assertTrue(future.isDone());
+    assertEquals(ICommandResult.ErrorIllegalSender.class, future.join().getClass());
+    assertNull(this.executingThread.get());
+  }
+}
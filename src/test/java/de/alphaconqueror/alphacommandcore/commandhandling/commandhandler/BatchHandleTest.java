@@ -0,0 +1,122 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.CountingSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.IllegalSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.LegalSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.TestCommand1;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class BatchHandleTest {
+
+  private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+  private CommandHandler commandHandler;
+
+  @BeforeEach
+  void init() {
+    this.executed.clear();
+    this.commandHandler = new CommandHandler("/");
+    this.commandHandler.registerCommand(new TestCommand1());
+    this.commandHandler.registerCommand(new ICommand() {
+      @Override
+      public ICommandResult handle(final ICommandSender sender, final String[] args) {
+        BatchHandleTest.this.executed.add(sender.getIdentifier() + args[0]);
+        return new ICommandResult.Okay();
+      }
+
+      @Override
+      public String[] getInvokes() {
+        return new String[]{"record"};
+      }
+
+      @Override
+      public String[] getArguments() {
+        return new String[]{"<index>"};
+      }
+    });
+  }
+
+  @Test
+  void resultOrderTest() {
+    final List<ICommandResult> commandResults = this.commandHandler
+            .handleBatch(List.of("/test", "no command", "/missing"), new LegalSender());
+
+    assertEquals(3, commandResults.size());
+    assertEquals(ICommandResult.ErrorNoCommand.class, commandResults.get(1).getClass());
+    assertEquals(ICommandResult.ErrorCommandNotFound.class, commandResults.get(2).getClass());
+  }
+
+  @Test
+  void parallelSenderOrderTest() {
+    final List<String> messages = new ArrayList<>();
+    final List<ICommandSender> senders = new ArrayList<>();
+    final ICommandSender legalSender = new LegalSender();
+    final ICommandSender illegalSender = new IllegalSender();
+
+    for (int i = 0; i < 100; i++) {
+      messages.add("/record " + i);
+      senders.add(i % 2 == 0 ? legalSender : illegalSender);
+    }
+
+    final List<ICommandResult> commandResults = this.commandHandler
+            .handleBatch(messages, senders, new ForkJoinPool(4));
+    final List<String> legalOrder = new ArrayList<>();
+    final List<String> expectedOrder = new ArrayList<>();
+
+    for (int i = 0; i < 100; i += 2) {
+      expectedOrder.add("testsender" + i);
+    }
+
+    for (final String record : this.executed) {
+      if (record.startsWith("testsender")) {
+        legalOrder.add(record);
+      }
+    }
+
+    assertEquals(100, commandResults.size());
+    assertEquals(100, this.executed.size());
+    assertArrayEquals(expectedOrder.toArray(), legalOrder.toArray());
+  }
+
+  @Test
+  void senderKeyOrderTest() {
+    final List<String> messages = new ArrayList<>();
+    final List<ICommandSender> senders = new ArrayList<>();
+    final List<String> expectedOrder = new ArrayList<>();
+    final List<String> playerOrder = new ArrayList<>();
+
+    for (int i = 0; i < 100; i++) {
+      messages.add("/record " + i);
+
+      if (i % 3 == 2) {
+        senders.add(new CountingSender("other"));
+      } else {
+        senders.add(new CountingSender("player"));
+        expectedOrder.add("player" + i);
+      }
+    }
+
+    this.commandHandler.handleBatch(messages, senders, new ForkJoinPool(4));
+
+    for (final String record : this.executed) {
+      if (record.startsWith("player")) {
+        playerOrder.add(record);
+      }
+    }
+
+    assertEquals(expectedOrder, playerOrder);
+  }
+}
@@ -0,0 +1,77 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.InvokesCommand;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class BufferHandleTest {
+
+  private CommandHandler commandHandler;
+  private InvokesCommand invokesCommand;
+
+  @BeforeEach
+  void init() {
+    this.invokesCommand = new InvokesCommand("test");
+    this.commandHandler = new CommandHandler("/");
+    this.commandHandler.registerCommand(this.invokesCommand);
+  }
+
+  @Test
+  void charSequenceTest() {
+    assertTrue(this.commandHandler.handle(new StringBuilder("/test a b"),
+            mock(ICommandSender.class)).isExecutable());
+    assertArrayEquals(new String[]{"a", "b"}, this.invokesCommand.receivedArgs);
+    assertTrue(this.commandHandler.handle(CharBuffer.wrap("x/test c").position(1),
+            mock(ICommandSender.class)).isExecutable());
+    assertArrayEquals(new String[]{"c"}, this.invokesCommand.receivedArgs);
+  }
+
+  @Test
+  void byteBufferTest() {
+    final ByteBuffer buffer = ByteBuffer.wrap("xx/test \u00e4".getBytes(StandardCharsets.UTF_8));
+
+    buffer.position(2);
+
+    assertTrue(this.commandHandler.handle(buffer, StandardCharsets.UTF_8,
+            mock(ICommandSender.class)).isExecutable());
+    assertArrayEquals(new String[]{"\u00e4"}, this.invokesCommand.receivedArgs);
+    assertEquals(2, buffer.position());
+    assertTrue(this.commandHandler.handle(ByteBuffer.wrap("/test u"
+            .getBytes(StandardCharsets.UTF_16)), StandardCharsets.UTF_16,
+            mock(ICommandSender.class)).isExecutable());
+    assertArrayEquals(new String[]{"u"}, this.invokesCommand.receivedArgs);
+  }
+
+  @Test
+  void noCommandTest() {
+    assertEquals(ICommandResult.ErrorNoCommand.class, this.commandHandler.handle(
+            ByteBuffer.wrap("hello".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8,
+            mock(ICommandSender.class)).getClass());
+    assertEquals(ICommandResult.ErrorNoCommand.class, this.commandHandler.handle(
+            ByteBuffer.allocate(0), StandardCharsets.US_ASCII, mock(ICommandSender.class))
+            .getClass());
+  }
+
+  @Test
+  void nonAsciiCallSymbolTest() {
+    final CommandHandler commandHandler = new CommandHandler("\u00a7");
+
+    commandHandler.registerCommand(this.invokesCommand);
+
+    assertTrue(commandHandler.handle(ByteBuffer.wrap("\u00a7test".getBytes(StandardCharsets.UTF_8)),
+            StandardCharsets.UTF_8, mock(ICommandSender.class)).isExecutable());
+  }
+}
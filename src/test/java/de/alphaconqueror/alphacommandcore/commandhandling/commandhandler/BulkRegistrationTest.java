@@ -0,0 +1,101 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandIndex;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.LegalSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.IndexedCommands;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.InvokesCommand;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class BulkRegistrationTest {
+
+  private CommandHandler commandHandler;
+
+  @BeforeEach
+  void init() {
+    this.commandHandler = new CommandHandler("/");
+  }
+
+  @Test
+  void registerCommandsTest() {
+    final InvokesCommand a = new InvokesCommand("a");
+    final InvokesCommand ab = new InvokesCommand("a", "b");
+    final InvokesCommand abc = new InvokesCommand("a", "b", "c");
+    final InvokesCommand x = new InvokesCommand("x");
+
+    this.commandHandler.registerCommand(x);
+    this.commandHandler.registerCommands(List.of(a, abc, ab));
+
+    assertEquals(List.of(abc, ab, x, a), this.commandHandler.getCommands());
+    assertTrue(this.commandHandler.handle("/a b c d", mock(ICommandSender.class))
+            .isExecutable());
+    assertArrayEquals(new String[]{"d"}, abc.receivedArgs);
+    assertTrue(this.commandHandler.handle("/a b", mock(ICommandSender.class)).isExecutable());
+    assertTrue(this.commandHandler.handle("/x", mock(ICommandSender.class)).isExecutable());
+  }
+
+  @Test
+  void duplicateTest() {
+    final InvokesCommand a = new InvokesCommand("a");
+
+    this.commandHandler.registerCommand(a);
+
+    assertThrows(UnsupportedOperationException.class, () -> this.commandHandler
+            .registerCommands(List.of(new InvokesCommand("b"), new InvokesCommand("a"))));
+    assertThrows(UnsupportedOperationException.class, () -> this.commandHandler
+            .registerCommands(List.of(new InvokesCommand("c"), new InvokesCommand("c"))));
+    assertEquals(List.of(a), this.commandHandler.getCommands());
+  }
+
+  @Test
+  void ignoreCaseTest() {
+    final InvokesCommand ab = new InvokesCommand("A", "b");
+
+    this.commandHandler.setIgnoreCase(true);
+    this.commandHandler.registerCommands(List.of(ab, new InvokesCommand("a")));
+
+    assertTrue(this.commandHandler.handle("/a B x", mock(ICommandSender.class))
+            .isExecutable());
+    assertArrayEquals(new String[]{"x"}, ab.receivedArgs);
+  }
+
+  @Test
+  void indexTest() {
+    final List<ICommand> commands =
+            this.commandHandler.registerIndexedCommands(getClass().getClassLoader());
+
+    assertEquals(2, commands.size());
+    assertSame(IndexedCommands.IndexedSub.class, commands.get(0).getClass());
+    assertSame(IndexedCommands.Indexed.class, commands.get(1).getClass());
+    assertTrue(this.commandHandler.handle("/indexed", mock(ICommandSender.class))
+            .isExecutable());
+    assertEquals(ICommandResult.ErrorPermission.class, this.commandHandler.handle(
+            "/indexed sub", mock(ICommandSender.class)).getClass());
+    assertTrue(this.commandHandler.handle("/indexed sub", new LegalSender()).isExecutable());
+  }
+
+  @Test
+  void indexInvokesTest() {
+    final CommandIndex commandIndex = () -> List.of(
+            CommandIndex.checkInvokes(new InvokesCommand("a", "b"), "a", "b"),
+            CommandIndex.checkInvokes(new InvokesCommand("c"), "a"));
+
+    assertThrows(IllegalArgumentException.class,
+            () -> this.commandHandler.registerCommands(commandIndex));
+    assertTrue(this.commandHandler.getCommands().isEmpty());
+  }
+}
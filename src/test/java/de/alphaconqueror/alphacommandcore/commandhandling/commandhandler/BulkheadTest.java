@@ -0,0 +1,166 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.GuardedCommand;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class BulkheadTest {
+
+  private ExecutorService executor;
+  private CommandHandler commandHandler;
+  private GuardedCommand guardedCommand;
+  private GuardedCommand timedCommand;
+
+  @BeforeEach
+  void init() {
+    this.executor = Executors.newCachedThreadPool();
+    this.guardedCommand = new GuardedCommand();
+    this.timedCommand = new GuardedCommand.Timed();
+    this.commandHandler = new CommandHandler("/").setExecutor(this.executor);
+    this.commandHandler.registerCommand(this.guardedCommand);
+    this.commandHandler.registerCommand(this.timedCommand);
+  }
+
+  @AfterEach
+  void shutdown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  void bulkheadTest() throws Exception {
+    final ICommandSender sender = mock(ICommandSender.class);
+    final CompletableFuture<ICommandResult> running =
+            this.commandHandler.handleAsync("/guarded", sender);
+
+    assertTrue(this.guardedCommand.entered.await(1, TimeUnit.SECONDS));
+
+    final ICommandResult rejected = this.commandHandler.handle("/guarded", sender);
+
+    assertEquals(ICommandResult.ErrorBulkheadFull.class, rejected.getClass());
+    assertEquals(1, ((ICommandResult.ErrorBulkheadFull) rejected).getMaxConcurrent());
+    assertSame(rejected, this.commandHandler.handle("/guarded", sender));
+    assertEquals(2, this.commandHandler.getBulkheadRejectionCount());
+
+    this.guardedCommand.release.countDown();
+
+    assertTrue(running.get(1, TimeUnit.SECONDS).isExecutable());
+    assertTrue(this.commandHandler.handle("/guarded", sender).isExecutable());
+    assertEquals(2, this.commandHandler.getBulkheadRejectionCount());
+  }
+
+  @Test
+  void ignoreCaseKeepsBulkheadTest() throws Exception {
+    final ICommandSender sender = mock(ICommandSender.class);
+    final CompletableFuture<ICommandResult> running =
+            this.commandHandler.handleAsync("/guarded", sender);
+
+    assertTrue(this.guardedCommand.entered.await(1, TimeUnit.SECONDS));
+    this.commandHandler.setIgnoreCase(true);
+
+    assertEquals(ICommandResult.ErrorBulkheadFull.class,
+            this.commandHandler.handle("/GUARDED", sender).getClass());
+
+    this.guardedCommand.release.countDown();
+
+    assertTrue(running.get(1, TimeUnit.SECONDS).isExecutable());
+    assertTrue(this.commandHandler.handle("/guarded", sender).isExecutable());
+  }
+
+  @Test
+  void timeoutTest() throws Exception {
+    final ICommandSender sender = mock(ICommandSender.class);
+    final ICommandResult commandResult = this.commandHandler.handle("/timed", sender);
+
+    assertEquals(ICommandResult.ErrorTimedOut.class, commandResult.getClass());
+    assertEquals(50, ((ICommandResult.ErrorTimedOut) commandResult)
+            .getTimeout(TimeUnit.MILLISECONDS));
+    assertEquals(1, this.commandHandler.getTimeoutCount());
+    assertFalse(Thread.currentThread().isInterrupted());
+
+    // the interrupted command releases its slot of the bulkhead once it has finished
+    for (int i = 0; i < 100 && this.timedCommand.interruptions.get() == 0; i++) {
+      Thread.sleep(10);
+    }
+
+    assertEquals(1, this.timedCommand.interruptions.get());
+    this.timedCommand.release.countDown();
+
+    for (int i = 0; i < 100; i++) {
+      if (this.commandHandler.handle("/timed", sender).isExecutable()) {
+        return;
+      }
+
+      Thread.sleep(10);
+    }
+
+    throw new AssertionError("The bulkhead has not been released.");
+  }
+
+  @Test
+  void ignoredInterruptTest() {
+    final GuardedCommand stubbornCommand = new GuardedCommand.Stubborn();
+    final long start = System.nanoTime();
+
+    this.commandHandler.registerCommand(stubbornCommand);
+
+    try {
+      assertEquals(ICommandResult.ErrorTimedOut.class, this.commandHandler.handle("/stubborn",
+              mock(ICommandSender.class)).getClass());
+      assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+      assertFalse(Thread.currentThread().isInterrupted());
+    } finally {
+      stubbornCommand.release.countDown();
+    }
+  }
+
+  @Test
+  void singleThreadExecutorTest() throws Exception {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final ICommandSender sender = mock(ICommandSender.class);
+
+    this.timedCommand.release.countDown();
+    this.commandHandler.setExecutor(executor);
+
+    try {
+      final List<CompletableFuture<ICommandResult>> futures = new ArrayList<>();
+
+      for (int i = 0; i < 10; i++) {
+        futures.add(this.commandHandler.handleAsync("/timed", sender));
+      }
+
+      for (final CompletableFuture<ICommandResult> future : futures) {
+        assertTrue(future.get(1, TimeUnit.SECONDS).isExecutable());
+      }
+
+      assertEquals(0, this.commandHandler.getTimeoutCount());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void noTimeoutTest() {
+    this.timedCommand.release.countDown();
+
+    assertTrue(this.commandHandler.handle("/timed", mock(ICommandSender.class)).isExecutable());
+    assertEquals(0, this.commandHandler.getTimeoutCount());
+  }
+}
@@ -0,0 +1,86 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandArgs;
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.LegalSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.InvokesCommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.ViewCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CommandArgsTest {
+
+  private CommandHandler commandHandler;
+  private ViewCommand viewCommand;
+  private ICommandSender sender;
+
+  @BeforeEach
+  void init() {
+    this.viewCommand = new ViewCommand();
+    this.commandHandler = new CommandHandler("/").addDefaultInvokes("core");
+    this.commandHandler.registerCommand(this.viewCommand);
+    this.sender = new LegalSender();
+  }
+
+  @Test
+  void viewTest() {
+    final String[] array = new String[]{"a", "b", "c", "d"};
+    final CommandArgs args = CommandArgs.of(array, 1, 3);
+
+    assertEquals(3, args.size());
+    assertEquals("b", args.get(0));
+    assertEquals(CommandArgs.of("c", "d"), args.subArgs(1));
+    assertEquals(CommandArgs.of("c", "d").hashCode(), args.subArgs(1).hashCode());
+    assertSame(args, args.subArgs(0));
+    assertSame(CommandArgs.EMPTY, args.subArgs(3));
+    assertArrayEquals(new String[]{"b", "c"}, args.subArgs(0, 2).toArray());
+    assertNotSame(array, CommandArgs.of(array).toArray());
+    assertThrows(IndexOutOfBoundsException.class, () -> args.get(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> CommandArgs.of(array, 2, 3));
+  }
+
+  @Test
+  void dispatchTest() {
+    assertTrue(this.commandHandler.handle("/core view x y", this.sender).isExecutable());
+    assertEquals(CommandArgs.of("x", "y"), this.viewCommand.receivedArgs);
+
+    final String[] array = new String[]{"-", "core", "view", "z"};
+
+    assertTrue(this.commandHandler.handle(CommandArgs.of(array, 1, 3), this.sender)
+            .isExecutable());
+    assertEquals(CommandArgs.of("z"), this.viewCommand.receivedArgs);
+    assertTrue(this.commandHandler.handle(new String[]{"core", "view"}, this.sender)
+            .isExecutable());
+    assertTrue(this.viewCommand.receivedArgs.isEmpty());
+  }
+
+  @Test
+  void annotationTest() {
+    assertEquals(ICommandResult.ErrorPermission.class, this.commandHandler.handle(
+            "/core view", mock(ICommandSender.class)).getClass());
+    assertEquals(ICommandResult.ErrorPermission.class, CommandHandler.handleCommand(
+            this.viewCommand, CommandArgs.EMPTY, mock(ICommandSender.class)).getClass());
+  }
+
+  @Test
+  void compatibilityTest() {
+    final InvokesCommand invokesCommand = new InvokesCommand("test");
+
+    this.commandHandler.registerCommand(invokesCommand);
+
+    assertTrue(this.commandHandler.handle("/core test a b", this.sender).isExecutable());
+    assertArrayEquals(new String[]{"a", "b"}, invokesCommand.receivedArgs);
+  }
+}
@@ -0,0 +1,61 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandlerRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CommandHandlerRouterTest {
+
+  private CommandHandlerRouter router;
+  private CommandHandler slashHandler;
+  private CommandHandler doubleSlashHandler;
+
+  @BeforeEach
+  void init() {
+    this.router = new CommandHandlerRouter();
+    this.slashHandler = new CommandHandler("/");
+    this.doubleSlashHandler = new CommandHandler("//");
+    this.router.add(this.slashHandler);
+    this.router.add(this.doubleSlashHandler);
+    this.router.add(new CommandHandler("!"));
+  }
+
+  @Test
+  void longestCallSymbolTest() {
+    assertSame(this.doubleSlashHandler, this.router.route("//test"));
+    assertSame(this.slashHandler, this.router.route("/test"));
+  }
+
+  @Test
+  void noMatchTest() {
+    assertNull(this.router.route("test"));
+    assertNull(this.router.route(""));
+  }
+
+  @Test
+  void duplicateCallSymbolTest() {
+    assertThrows(UnsupportedOperationException.class,
+            () -> this.router.add(new CommandHandler("/")));
+  }
+
+  @Test
+  void removeTest() {
+    assertTrue(this.router.remove(this.doubleSlashHandler));
+    assertFalse(this.router.remove(this.doubleSlashHandler));
+    assertSame(this.slashHandler, this.router.route("//test"));
+  }
+
+  @Test
+  void commandHandlerOrderTest() {
+    assertSame(this.doubleSlashHandler, this.router.getCommandHandlers().get(0));
+  }
+}
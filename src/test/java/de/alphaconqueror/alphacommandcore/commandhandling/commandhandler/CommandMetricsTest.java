@@ -0,0 +1,78 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.commandresults.TestResult1;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.TestCommand1;
+import de.alphaconqueror.alphacommandcore.commandhandling.metrics.CommandMetrics;
+import de.alphaconqueror.alphacommandcore.commandhandling.metrics.LatencyHistogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CommandMetricsTest {
+
+  private CommandHandler commandHandler;
+  private TestCommand1 testCommand1;
+  private CommandMetrics metrics;
+
+  @BeforeEach
+  void init() {
+    this.metrics = new CommandMetrics();
+    this.testCommand1 = new TestCommand1();
+    this.commandHandler = new CommandHandler("/").setMetrics(this.metrics);
+    this.commandHandler.registerCommand(this.testCommand1);
+  }
+
+  @Test
+  void countersTest() {
+    this.commandHandler.handle("/test", mock(ICommandSender.class));
+    this.commandHandler.handle("/test arg", mock(ICommandSender.class));
+    this.commandHandler.handle("/missing", mock(ICommandSender.class));
+    this.commandHandler.handle("no command", mock(ICommandSender.class));
+
+    final CommandMetrics.Snapshot snapshot = this.metrics.snapshot();
+
+    assertEquals(2L, snapshot.getInvocations().get(this.testCommand1));
+    assertEquals(2L, snapshot.getResultCounts().get(TestResult1.class));
+    assertEquals(1L, snapshot.getResultCounts().get(ICommandResult.ErrorCommandNotFound.class));
+    assertEquals(1L, snapshot.getResultCounts().get(ICommandResult.ErrorNoCommand.class));
+    assertEquals(3, snapshot.getParseLatency().getCount());
+    assertEquals(2, snapshot.getAuthorizationLatency().getCount());
+    assertEquals(2, snapshot.getExecutionLatency().getCount());
+  }
+
+  @Test
+  void unregisterTest() {
+    this.commandHandler.handle("/test", mock(ICommandSender.class));
+    this.commandHandler.unregisterCommand(this.testCommand1);
+
+    final CommandMetrics.Snapshot snapshot = this.metrics.snapshot();
+
+    assertTrue(snapshot.getInvocations().isEmpty());
+    assertTrue(snapshot.getCommandLatencies().isEmpty());
+    assertEquals(1, snapshot.getExecutionLatency().getCount());
+  }
+
+  @Test
+  void histogramTest() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i * 10);
+    }
+
+    final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+    assertEquals(100, snapshot.getCount());
+    assertEquals(1000, snapshot.getMax());
+    assertEquals(1024, snapshot.getPercentile(0.99));
+    assertTrue(snapshot.getPercentile(0.5) >= 500);
+  }
+}
@@ -0,0 +1,81 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.LegalSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.InvokesCommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.PermissionCommand;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DidYouMeanTest {
+
+  private CommandHandler commandHandler;
+  private InvokesCommand tellCommand;
+
+  @BeforeEach
+  void init() {
+    this.tellCommand = new InvokesCommand("tell");
+    this.commandHandler = new CommandHandler("/").setMaxSuggestionDistance(2);
+    this.commandHandler.registerCommand(new PermissionCommand());
+    this.commandHandler.registerCommand(new InvokesCommand("team", "list"));
+    this.commandHandler.registerCommand(new InvokesCommand("team", "join"));
+    this.commandHandler.registerCommand(this.tellCommand);
+  }
+
+  @Test
+  void suggestionsTest() {
+    assertEquals(List.of("tell", "test"), suggestions("/tel", new LegalSender()));
+    assertEquals(List.of(), suggestions("/something", new LegalSender()));
+  }
+
+  @Test
+  void subcommandTest() {
+    this.commandHandler.setMaxSuggestions(1);
+
+    assertEquals(List.of("team list"), suggestions("/team lst", new LegalSender()));
+  }
+
+  @Test
+  void permissionTest() {
+    assertEquals(List.of("tell"), suggestions("/tel", mock(ICommandSender.class)));
+  }
+
+  @Test
+  void unregisterTest() {
+    this.commandHandler.unregisterCommand(this.tellCommand);
+
+    assertEquals(List.of("test"), suggestions("/tel", new LegalSender()));
+  }
+
+  @Test
+  void registerAfterLookupTest() {
+    assertEquals(List.of("tell", "test"), suggestions("/tel", new LegalSender()));
+
+    this.commandHandler.registerCommand(new InvokesCommand("tele"));
+
+    assertEquals(List.of("tele", "tell", "test"), suggestions("/tel", new LegalSender()));
+  }
+
+  @Test
+  void disabledTest() {
+    this.commandHandler.setMaxSuggestionDistance(0);
+
+    assertEquals(List.of(), suggestions("/tel", new LegalSender()));
+  }
+
+  private List<String> suggestions(final String message, final ICommandSender sender) {
+    final ICommandResult commandResult = this.commandHandler.handle(message, sender);
+
+    assertEquals(ICommandResult.ErrorCommandNotFound.class, commandResult.getClass());
+
+    return ((ICommandResult.ErrorCommandNotFound) commandResult).getSuggestions();
+  }
+}
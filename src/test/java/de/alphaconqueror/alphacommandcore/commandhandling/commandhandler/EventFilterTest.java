@@ -0,0 +1,109 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.BatchEventMode;
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.commandresults.TestResult1;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.TestCommand1;
+import de.alphaconqueror.alphacommandcore.eventhandling.AsyncEventPublisher;
+import de.alphaconqueror.alphacommandcore.eventhandling.AsyncEventPublisher.BackpressurePolicy;
+import de.alphaconqueror.alphacommandcore.eventhandling.CommandBatchCalledEvent;
+import de.alphaconqueror.alphacommandcore.eventhandling.CommandCalledEvent;
+import de.alphaconqueror.alphaeventcore.eventhandling.Event;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class EventFilterTest {
+
+  private final List<Event> events = Collections.synchronizedList(new ArrayList<>());
+  private CommandHandler commandHandler;
+  private AsyncEventPublisher eventPublisher;
+
+  @BeforeEach
+  void init() {
+    this.events.clear();
+    this.eventPublisher =
+            new AsyncEventPublisher(64, BackpressurePolicy.BLOCK, 1, this.events::add);
+    this.commandHandler = new CommandHandler("/").setEventPublisher(this.eventPublisher);
+    this.commandHandler.registerCommand(new TestCommand1());
+  }
+
+  @Test
+  void filteredResultTest() {
+    final ICommandSender sender = mock(ICommandSender.class);
+
+    this.commandHandler.handle("/test", sender);
+    this.commandHandler.handle("no command", sender);
+    this.commandHandler.handle("/test", sender);
+    this.commandHandler.handle("no command", sender);
+    this.eventPublisher.close();
+
+    assertEquals(2, this.events.size());
+    assertEquals(2L, this.eventPublisher.getPublishedCount());
+    assertEquals(0L, this.eventPublisher.getDroppedCount());
+
+    for (final Event event : this.events) {
+      assertTrue(((CommandCalledEvent) event).getCommandResult() instanceof TestResult1);
+    }
+  }
+
+  @Test
+  void unfilteredTest() {
+    final ICommandSender sender = mock(ICommandSender.class);
+
+    this.commandHandler.setEventFilter(null);
+    this.commandHandler.handle("/test", sender);
+    this.commandHandler.handle("no command", sender);
+    this.eventPublisher.close();
+
+    assertEquals(2, this.events.size());
+    assertTrue(((CommandCalledEvent) this.events.get(1)).getCommandResult()
+            instanceof ICommandResult.ErrorNoCommand);
+  }
+
+  @Test
+  void defensiveCopyTest() {
+    this.commandHandler.handle("/test a b", mock(ICommandSender.class));
+    this.eventPublisher.close();
+
+    final CommandCalledEvent event = (CommandCalledEvent) this.events.get(0);
+    final String[] args = event.getArgs();
+
+    args[0] = "changed";
+
+    assertNotSame(args, event.getArgs());
+    assertArrayEquals(new String[]{"a", "b"}, event.getArgs());
+    assertEquals("a", event.getCommandArgs().get(0));
+  }
+
+  @Test
+  void batchTest() {
+    final ICommandSender sender = mock(ICommandSender.class);
+
+    this.commandHandler.setBatchEventMode(BatchEventMode.BATCHED);
+    this.commandHandler.handleBatch(List.of("/test", "no command", "/test a"), sender);
+    this.commandHandler.handleBatch(List.of("no command", "no command"), sender);
+    this.eventPublisher.close();
+
+    assertEquals(1, this.events.size());
+
+    final List<CommandCalledEvent> batchEvents =
+            ((CommandBatchCalledEvent) this.events.get(0)).getEvents();
+
+    assertEquals(2, batchEvents.size());
+    assertArrayEquals(new String[0], batchEvents.get(0).getArgs());
+    assertArrayEquals(new String[]{"a"}, batchEvents.get(1).getArgs());
+  }
+}
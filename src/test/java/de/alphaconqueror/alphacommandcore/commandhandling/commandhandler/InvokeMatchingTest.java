@@ -0,0 +1,78 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.InvokesCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class InvokeMatchingTest {
+
+  private CommandHandler commandHandler;
+  private InvokesCommand shortCommand;
+  private InvokesCommand longCommand;
+
+  @BeforeEach
+  void init() {
+    this.commandHandler = new CommandHandler("/");
+    this.shortCommand = new InvokesCommand("test");
+    this.longCommand = new InvokesCommand("test", "status");
+    this.commandHandler.registerCommand(this.shortCommand);
+    this.commandHandler.registerCommand(this.longCommand);
+  }
+
+  @Test
+  void longestInvokesWinTest() {
+    this.commandHandler.handle("/test status 1", mock(ICommandSender.class));
+
+    assertNull(this.shortCommand.receivedArgs);
+    assertArrayEquals(new String[]{"1"}, this.longCommand.receivedArgs);
+  }
+
+  @Test
+  void shorterInvokesFallbackTest() {
+    this.commandHandler.handle("/test other 1", mock(ICommandSender.class));
+
+    assertNull(this.longCommand.receivedArgs);
+    assertArrayEquals(new String[]{"other", "1"}, this.shortCommand.receivedArgs);
+  }
+
+  @Test
+  void commandNotFoundTest() {
+    assertEquals(ICommandResult.ErrorCommandNotFound.class,
+            this.commandHandler.handle("/other", mock(ICommandSender.class)).getClass());
+  }
+
+  @Test
+  void unregisterCommandTest() {
+    assertTrue(this.commandHandler.unregisterCommand(this.longCommand));
+    assertFalse(this.commandHandler.unregisterCommand(this.longCommand));
+
+    this.commandHandler.handle("/test status 1", mock(ICommandSender.class));
+
+    assertArrayEquals(new String[]{"status", "1"}, this.shortCommand.receivedArgs);
+    assertEquals(1, this.commandHandler.getCommands().size());
+  }
+
+  @Test
+  void commandOrderTest() {
+    assertEquals(this.longCommand, this.commandHandler.getCommands().get(0));
+  }
+
+  @Test
+  void duplicateInvokesTest() {
+    assertThrows(UnsupportedOperationException.class,
+            () -> this.commandHandler.registerCommand(new InvokesCommand("test", "status")));
+  }
+}
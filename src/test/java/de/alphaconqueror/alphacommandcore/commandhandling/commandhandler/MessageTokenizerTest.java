@@ -0,0 +1,63 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.MessageTokenizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MessageTokenizerTest {
+
+  @Test
+  void simpleSplitTest() {
+    final MessageTokenizer tokenizer = new MessageTokenizer(" ", true, false);
+
+    assertArrayEquals(new String[]{"test", "arg1", "arg2"},
+            tokenizer.tokenize("/test  arg1 arg2 ", 1).toArray(0));
+  }
+
+  @Test
+  void keepBlanksTest() {
+    final MessageTokenizer tokenizer = new MessageTokenizer(",", false, false);
+
+    assertArrayEquals("a,,b, ".split(","), tokenizer.tokenize("a,,b, ", 0).toArray(0));
+    assertArrayEquals("a,,b,,".split(","), tokenizer.tokenize("a,,b,,", 0).toArray(0));
+  }
+
+  @Test
+  void escapedSeparatorTest() {
+    final MessageTokenizer tokenizer = new MessageTokenizer(" ", true, false);
+
+    assertArrayEquals(new String[]{"a\\ b", "c"}, tokenizer.tokenize("a\\ b c", 0).toArray(0));
+  }
+
+  @Test
+  void multiCharSeparatorTest() {
+    final MessageTokenizer tokenizer = new MessageTokenizer("::", true, false);
+
+    assertArrayEquals(new String[]{"a", "b:c", "d"},
+            tokenizer.tokenize("a::b:c::d", 0).toArray(0));
+  }
+
+  @Test
+  void quotedStringTest() {
+    final MessageTokenizer tokenizer = new MessageTokenizer(" ", true, true);
+    final MessageTokenizer.Tokens tokens = tokenizer.tokenize("say \"hello world\" now", 0);
+
+    assertEquals(3, tokens.size());
+    assertArrayEquals(new String[]{"say", "hello world", "now"}, tokens.toArray(0));
+    assertEquals(5, tokens.getStart(1));
+  }
+
+  @Test
+  void trailingQuotedEmptyTest() {
+    final MessageTokenizer tokenizer = new MessageTokenizer(" ", false, true);
+
+    assertArrayEquals(new String[]{"say", ""}, tokenizer.tokenize("say \"\"", 0).toArray(0));
+    assertArrayEquals(new String[]{"say", ""}, tokenizer.tokenize("say \"\"  ", 0).toArray(0));
+    assertArrayEquals(new String[]{"say", "", "a"},
+            tokenizer.tokenize("say \"\" a ", 0).toArray(0));
+  }
+}
@@ -0,0 +1,140 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.PermissionCache;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.CountingSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.LegalSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.PermissionCommand;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class PermissionCacheTest {
+
+  private CommandHandler commandHandler;
+  private PermissionCache permissionCache;
+
+  @BeforeEach
+  void init() {
+    this.permissionCache = new PermissionCache(2, 1, TimeUnit.HOURS);
+    this.commandHandler = new CommandHandler("/").setPermissionCache(this.permissionCache);
+    this.commandHandler.registerCommand(new PermissionCommand());
+  }
+
+  @Test
+  void cacheTest() {
+    final CountingSender sender = new CountingSender("sender");
+
+    assertTrue(this.commandHandler.handle("/test", sender).isExecutable());
+    assertTrue(this.commandHandler.handle("/test", sender).isExecutable());
+
+    sender.granted = false;
+
+    assertTrue(this.commandHandler.handle("/test", sender).isExecutable());
+    assertEquals(1, sender.permissionChecks);
+    assertEquals(2L, this.permissionCache.getHitCount());
+    assertEquals(1L, this.permissionCache.getMissCount());
+  }
+
+  @Test
+  void sameIdentifierTest() {
+    final CountingSender granted = new CountingSender("player", "granted");
+    final CountingSender denied = new CountingSender("player", "denied");
+
+    denied.granted = false;
+
+    assertTrue(this.commandHandler.handle("/test", granted).isExecutable());
+    assertEquals(ICommandResult.ErrorPermission.class,
+            this.commandHandler.handle("/test", denied).getClass());
+    assertTrue(this.commandHandler.handle("/test", granted).isExecutable());
+    assertEquals(ICommandResult.ErrorPermission.class,
+            this.commandHandler.handle("/test", denied).getClass());
+    assertEquals(1, granted.permissionChecks);
+    assertEquals(1, denied.permissionChecks);
+  }
+
+  @Test
+  void identityKeyTest() {
+    final ICommandSender first = new LegalSender();
+    final ICommandSender second = new LegalSender();
+
+    this.permissionCache.hasPermission(first, "permission");
+    this.permissionCache.hasPermission(second, "permission");
+    this.permissionCache.hasPermission(first, "permission");
+
+    assertEquals(2, this.permissionCache.size());
+    assertEquals(1L, this.permissionCache.getHitCount());
+  }
+
+  @Test
+  void expiredSenderTest() throws InterruptedException {
+    final PermissionCache permissionCache = new PermissionCache(2, 1, TimeUnit.NANOSECONDS);
+    final WeakReference<Object> senderKey = check(permissionCache);
+
+    for (int i = 0; i < 3; i++) {
+      permissionCache.hasPermission(new CountingSender("sender" + i), "permission");
+    }
+
+    for (int i = 0; i < 50 && senderKey.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertTrue(permissionCache.size() <= 2);
+    assertNull(senderKey.get());
+  }
+
+  private static WeakReference<Object> check(final PermissionCache permissionCache) {
+    final Object senderKey = new Object();
+
+    permissionCache.hasPermission(new CountingSender("expired", senderKey), "permission");
+    return new WeakReference<>(senderKey);
+  }
+
+  @Test
+  void invalidateTest() {
+    final CountingSender sender = new CountingSender("sender");
+
+    this.commandHandler.handle("/test", sender);
+    sender.granted = false;
+    this.permissionCache.invalidate("sender");
+
+    assertEquals(ICommandResult.ErrorPermission.class,
+            this.commandHandler.handle("/test", sender).getClass());
+    assertEquals(2, sender.permissionChecks);
+
+    this.permissionCache.invalidateAll();
+
+    assertEquals(0, this.permissionCache.size());
+  }
+
+  @Test
+  void expiryTest() {
+    final PermissionCache permissionCache = new PermissionCache(10, 1, TimeUnit.NANOSECONDS);
+    final CountingSender sender = new CountingSender("sender");
+
+    assertTrue(permissionCache.hasPermission(sender, "permission"));
+    assertTrue(permissionCache.hasPermission(sender, "permission"));
+    assertEquals(2, sender.permissionChecks);
+  }
+
+  @Test
+  void evictionTest() {
+    for (int i = 0; i < 5; i++) {
+      this.permissionCache.hasPermission(new CountingSender("sender" + i), "permission");
+    }
+
+    assertFalse(this.permissionCache.size() > 2);
+    assertEquals(3L, this.permissionCache.getEvictionCount());
+  }
+}
@@ -0,0 +1,48 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.LegalSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.PermissionCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class PermissionRequiredTest {
+
+  private CommandHandler commandHandler;
+
+  @BeforeEach
+  void init() {
+    this.commandHandler = new CommandHandler("/");
+    this.commandHandler.registerCommand(new PermissionCommand());
+  }
+
+  @Test
+  void simplePermittedSender() {
+    final ICommandResult commandResult = this.commandHandler.handle("/test", new LegalSender());
+
+    assertEquals(ICommandResult.Okay.class, commandResult.getClass());
+  }
+
+  @Test
+  void simpleMissingPermission() {
+    final ICommandResult commandResult = this.commandHandler
+            .handle("/test", mock(ICommandSender.class));
+
+    assertEquals(ICommandResult.ErrorPermission.class, commandResult.getClass());
+    assertEquals("test.permission",
+            ((ICommandResult.ErrorPermission) commandResult).getPermissionIdentifier());
+  }
+
+  @Test
+  void staticHandleCommand() {
+    assertEquals(ICommandResult.ErrorPermission.class, CommandHandler
+            .handleCommand(new PermissionCommand(), new String[0], null).getClass());
+  }
+}
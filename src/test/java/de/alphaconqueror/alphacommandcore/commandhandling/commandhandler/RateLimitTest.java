@@ -0,0 +1,105 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.RateLimiter;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.CountingSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.IllegalSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.LegalSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.RateLimitedCommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.TestCommand1;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RateLimitTest {
+
+  private CommandHandler commandHandler;
+
+  @BeforeEach
+  void init() {
+    this.commandHandler = new CommandHandler("/");
+    this.commandHandler.registerCommand(new RateLimitedCommand());
+    this.commandHandler.registerCommand(new TestCommand1());
+  }
+
+  @Test
+  void commandRateLimitTest() {
+    final LegalSender sender = new LegalSender();
+
+    assertTrue(this.commandHandler.handle("/limited", sender).isExecutable());
+    assertTrue(this.commandHandler.handle("/limited", sender).isExecutable());
+
+    final ICommandResult commandResult = this.commandHandler.handle("/limited", sender);
+
+    assertEquals(ICommandResult.ErrorRateLimited.class, commandResult.getClass());
+    assertTrue(((ICommandResult.ErrorRateLimited) commandResult)
+            .getRetryAfter(TimeUnit.MINUTES) > 0);
+    assertTrue(this.commandHandler.handle("/limited", new IllegalSender()).isExecutable());
+    assertTrue(this.commandHandler.handle("/test", sender).isExecutable());
+  }
+
+  @Test
+  void handlerRateLimitTest() {
+    final LegalSender sender = new LegalSender();
+
+    this.commandHandler.setRateLimiter(new RateLimiter(1, 1, TimeUnit.HOURS));
+
+    assertTrue(this.commandHandler.handle("/test", sender).isExecutable());
+    assertEquals(ICommandResult.ErrorRateLimited.class,
+            this.commandHandler.handle("/test", sender).getClass());
+  }
+
+  @Test
+  void perSenderTest() {
+    final CountingSender spammer = new CountingSender("player", "spammer");
+
+    this.commandHandler.handle("/limited", spammer);
+    this.commandHandler.handle("/limited", spammer);
+
+    assertEquals(ICommandResult.ErrorRateLimited.class,
+            this.commandHandler.handle("/limited", spammer).getClass());
+    assertTrue(this.commandHandler.handle("/limited", new CountingSender("player", "other"))
+            .isExecutable());
+  }
+
+  @Test
+  void noSenderKeyTest() {
+    final CountingSender sender = new CountingSender(null);
+
+    this.commandHandler.setRateLimiter(new RateLimiter(1, 1, TimeUnit.HOURS));
+
+    for (int i = 0; i < 3; i++) {
+      assertTrue(this.commandHandler.handle("/limited", sender).isExecutable());
+    }
+
+    assertEquals(0, this.commandHandler.getRateLimiter().size());
+  }
+
+  @Test
+  void ignoreCaseKeepsLimitTest() {
+    final LegalSender sender = new LegalSender();
+
+    this.commandHandler.handle("/limited", sender);
+    this.commandHandler.handle("/limited", sender);
+    this.commandHandler.setIgnoreCase(true);
+
+    assertEquals(ICommandResult.ErrorRateLimited.class,
+            this.commandHandler.handle("/LIMITED", sender).getClass());
+  }
+
+  @Test
+  void expireIdleTest() {
+    final RateLimiter rateLimiter = new RateLimiter(1, 1, TimeUnit.NANOSECONDS);
+
+    rateLimiter.tryAcquire("sender");
+    rateLimiter.expireIdle();
+
+    assertEquals(0, rateLimiter.size());
+  }
+}
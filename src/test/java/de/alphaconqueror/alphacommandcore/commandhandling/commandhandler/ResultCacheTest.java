@@ -0,0 +1,151 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ResultCache;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.CountingSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.CachedCommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.InvokesCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ResultCacheTest {
+
+  private CommandHandler commandHandler;
+  private CachedCommand cachedCommand;
+  private CachedCommand perSenderCommand;
+  private ResultCache resultCache;
+
+  @BeforeEach
+  void init() {
+    this.cachedCommand = new CachedCommand();
+    this.perSenderCommand = new CachedCommand.PerSender();
+    this.resultCache = new ResultCache(4);
+    this.commandHandler = new CommandHandler("/").setResultCache(this.resultCache);
+    this.commandHandler.registerCommand(this.cachedCommand);
+    this.commandHandler.registerCommand(this.perSenderCommand);
+  }
+
+  @Test
+  void globalScopeTest() {
+    final ICommandResult commandResult =
+            this.commandHandler.handle("/cached a", new CountingSender("first"));
+
+    assertSame(commandResult, this.commandHandler.handle("/cached a",
+            new CountingSender("second")));
+    assertEquals(1, this.cachedCommand.executions.get());
+    this.commandHandler.handle("/cached b", new CountingSender("first"));
+    assertEquals(2, this.cachedCommand.executions.get());
+    assertEquals(1, this.resultCache.getHitCount());
+    assertEquals(2, this.resultCache.getMissCount());
+  }
+
+  @Test
+  void checksBeforeCacheTest() {
+    final CountingSender deniedSender = new CountingSender("denied");
+
+    deniedSender.granted = false;
+    this.commandHandler.handle("/cached", new CountingSender("granted"));
+
+    assertEquals(ICommandResult.ErrorPermission.class,
+            this.commandHandler.handle("/cached", deniedSender).getClass());
+    assertEquals(1, deniedSender.permissionChecks);
+    assertEquals(1, this.cachedCommand.executions.get());
+  }
+
+  @Test
+  void senderScopeTest() throws InterruptedException {
+    final CountingSender sender = new CountingSender("first");
+
+    this.commandHandler.handle("/mine", sender);
+    this.commandHandler.handle("/mine", sender);
+    assertEquals(1, this.perSenderCommand.executions.get());
+    this.commandHandler.handle("/mine", new CountingSender("second"));
+    assertEquals(2, this.perSenderCommand.executions.get());
+    this.commandHandler.handle("/mine", new CountingSender(null));
+    this.commandHandler.handle("/mine", new CountingSender(null));
+    assertEquals(4, this.perSenderCommand.executions.get());
+
+    Thread.sleep(100);
+
+    this.commandHandler.handle("/mine", sender);
+    assertEquals(5, this.perSenderCommand.executions.get());
+  }
+
+  @Test
+  void sameIdentifierTest() {
+    final CountingSender first = new CountingSender("player", "first");
+    final CountingSender second = new CountingSender("player", "second");
+
+    this.commandHandler.handle("/mine", first);
+    this.commandHandler.handle("/mine", second);
+    assertEquals(2, this.perSenderCommand.executions.get());
+    this.commandHandler.handle("/mine", first);
+    this.commandHandler.handle("/mine", second);
+    assertEquals(2, this.perSenderCommand.executions.get());
+  }
+
+  @Test
+  void boundedTest() {
+    for (int i = 0; i < 10; i++) {
+      this.commandHandler.handle("/cached " + i, new CountingSender("sender"));
+    }
+
+    assertTrue(this.resultCache.size() <= this.resultCache.getMaximumSize());
+    assertTrue(this.resultCache.getEvictionCount() >= 6);
+  }
+
+  @Test
+  void invalidateTest() {
+    this.commandHandler.handle("/cached", new CountingSender("sender"));
+    this.resultCache.invalidate(this.cachedCommand);
+    this.commandHandler.handle("/cached", new CountingSender("sender"));
+
+    assertEquals(2, this.cachedCommand.executions.get());
+    assertEquals(1, this.resultCache.size());
+  }
+
+  @Test
+  void unregisterTest() {
+    this.commandHandler.handle("/cached", new CountingSender("sender"));
+    this.commandHandler.handle("/mine", new CountingSender("sender"));
+    this.commandHandler.unregisterCommand(this.cachedCommand);
+
+    assertEquals(1, this.resultCache.size());
+  }
+
+  @Test
+  void disabledByDefaultTest() {
+    final CommandHandler commandHandler = new CommandHandler("/");
+
+    commandHandler.registerCommand(this.cachedCommand);
+    commandHandler.handle("/cached", new CountingSender("sender"));
+    commandHandler.handle("/cached", new CountingSender("sender"));
+
+    assertNull(commandHandler.getResultCache());
+    assertEquals(2, this.cachedCommand.executions.get());
+  }
+
+  @Test
+  void disabledTest() {
+    final InvokesCommand invokesCommand = new InvokesCommand("plain");
+
+    this.commandHandler.registerCommand(invokesCommand);
+    this.commandHandler.handle("/plain", new CountingSender("sender"));
+    assertEquals(0, this.resultCache.size());
+
+    this.commandHandler.setResultCache(null);
+    this.commandHandler.handle("/cached", new CountingSender("sender"));
+    this.commandHandler.handle("/cached", new CountingSender("sender"));
+    assertEquals(2, this.cachedCommand.executions.get());
+    assertThrows(IllegalArgumentException.class, () -> new ResultCache(0));
+  }
+}
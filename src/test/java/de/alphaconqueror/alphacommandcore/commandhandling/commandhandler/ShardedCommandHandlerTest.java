@@ -0,0 +1,206 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.ShardedCommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.CountingSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.GuardedCommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.InvokesCommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.RecordingCommand;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ShardedCommandHandlerTest {
+
+  private CommandHandler commandHandler;
+  private RecordingCommand recordingCommand;
+  private GuardedCommand guardedCommand;
+
+  @BeforeEach
+  void init() {
+    this.recordingCommand = new RecordingCommand();
+    this.guardedCommand = new GuardedCommand();
+    this.commandHandler = new CommandHandler("/");
+    this.commandHandler.registerCommand(this.recordingCommand);
+    this.commandHandler.registerCommand(this.guardedCommand);
+  }
+
+  @Test
+  void perSenderOrderTest() throws Exception {
+    final List<String> expected = new ArrayList<>();
+    final List<CompletableFuture<ICommandResult>> futures = new ArrayList<>();
+
+    try (ShardedCommandHandler sharded = new ShardedCommandHandler(this.commandHandler, 4, 1024,
+            ShardedCommandHandler.OverflowPolicy.BLOCK)) {
+      for (int i = 0; i < 200; i++) {
+        expected.add(String.valueOf(i));
+
+        for (int sender = 0; sender < 8; sender++) {
+          futures.add(sharded.handle("/record " + i, new CountingSender("sender" + sender)));
+        }
+      }
+
+      for (final CompletableFuture<ICommandResult> future : futures) {
+        assertTrue(future.get(1, TimeUnit.SECONDS).isExecutable());
+      }
+
+      assertEquals(1600, sharded.getHandledCount());
+      assertEquals(0, sharded.getRejectedCount());
+
+      for (int sender = 0; sender < 8; sender++) {
+        final CountingSender countingSender = new CountingSender("sender" + sender);
+
+        assertEquals(expected, this.recordingCommand.received.get("sender" + sender));
+        assertEquals("AlphaCommandCore-Lane-" + sharded.getLaneIndex(countingSender),
+                this.recordingCommand.threads.get("sender" + sender).getName());
+      }
+    }
+  }
+
+  @Test
+  void rejectTest() throws Exception {
+    final CountingSender sender = new CountingSender("sender");
+
+    try (ShardedCommandHandler sharded = new ShardedCommandHandler(this.commandHandler, 1, 1,
+            ShardedCommandHandler.OverflowPolicy.REJECT)) {
+      final CompletableFuture<ICommandResult> running = sharded.handle("/guarded", sender);
+
+      assertTrue(this.guardedCommand.entered.await(1, TimeUnit.SECONDS));
+
+      final CompletableFuture<ICommandResult> queued = sharded.handle("/record a", sender);
+      final ICommandResult rejected = sharded.handle("/record b", sender).getNow(null);
+
+      assertEquals(ICommandResult.ErrorOverloaded.class, rejected.getClass());
+      assertEquals(1, ((ICommandResult.ErrorOverloaded) rejected).getQueueCapacity());
+      assertEquals(1, sharded.getQueueDepth(0));
+      assertEquals(1, sharded.getPeakQueueDepth(0));
+      assertEquals(1, sharded.getRejectedCount());
+
+      this.guardedCommand.release.countDown();
+
+      assertTrue(running.get(1, TimeUnit.SECONDS).isExecutable());
+      assertTrue(queued.get(1, TimeUnit.SECONDS).isExecutable());
+      assertEquals(List.of("a"), this.recordingCommand.received.get("sender"));
+    }
+  }
+
+  @Test
+  void dropOldestTest() throws Exception {
+    final CountingSender sender = new CountingSender("sender");
+
+    try (ShardedCommandHandler sharded = new ShardedCommandHandler(this.commandHandler, 1, 1,
+            ShardedCommandHandler.OverflowPolicy.DROP_OLDEST)) {
+      sharded.handle("/guarded", sender);
+
+      assertTrue(this.guardedCommand.entered.await(1, TimeUnit.SECONDS));
+
+      final CompletableFuture<ICommandResult> dropped = sharded.handle("/record a", sender);
+      final CompletableFuture<ICommandResult> queued = sharded.handle("/record b", sender);
+
+      assertEquals(ICommandResult.ErrorOverloaded.class, dropped.getNow(null).getClass());
+
+      this.guardedCommand.release.countDown();
+
+      assertTrue(queued.get(1, TimeUnit.SECONDS).isExecutable());
+      assertEquals(List.of("b"), this.recordingCommand.received.get("sender"));
+      assertEquals(1, sharded.getRejectedCount());
+    }
+  }
+
+  @Test
+  void closeTest() throws Exception {
+    final CountingSender sender = new CountingSender("sender");
+    final ShardedCommandHandler sharded = new ShardedCommandHandler(this.commandHandler, 2, 16,
+            ShardedCommandHandler.OverflowPolicy.REJECT);
+    final CompletableFuture<ICommandResult> queued = sharded.handle("/record a", sender);
+
+    sharded.close();
+
+    assertFalse(sharded.isRunning());
+    assertTrue(queued.getNow(null).isExecutable());
+    assertEquals(ICommandResult.ErrorOverloaded.class,
+            sharded.handle("/record b", sender).getNow(null).getClass());
+    assertSame(this.commandHandler, sharded.getCommandHandler());
+  }
+
+  @Test
+  void sameIdentifierTest() {
+    final Set<Integer> laneIndices = new HashSet<>();
+
+    try (ShardedCommandHandler sharded = new ShardedCommandHandler(this.commandHandler, 4, 16,
+            ShardedCommandHandler.OverflowPolicy.REJECT)) {
+      for (int i = 0; i < 32; i++) {
+        laneIndices.add(sharded.getLaneIndex(new CountingSender("player", "player" + i)));
+      }
+    }
+
+    assertTrue(laneIndices.size() > 1);
+  }
+
+  @Test
+  void interruptedLaneTest() throws Exception {
+    final CountingSender sender = new CountingSender("sender");
+
+    this.commandHandler.registerCommand(new InvokesCommand("interrupt") {
+      @Override
+      public ICommandResult handle(final ICommandSender sender, final String[] args) {
+        Thread.currentThread().interrupt();
+        return new ICommandResult.Okay();
+      }
+    });
+
+    try (ShardedCommandHandler sharded = new ShardedCommandHandler(this.commandHandler, 1, 16,
+            ShardedCommandHandler.OverflowPolicy.REJECT)) {
+      assertTrue(sharded.handle("/interrupt", sender).get(1, TimeUnit.SECONDS).isExecutable());
+      assertEquals(ICommandResult.ErrorOverloaded.class,
+              sharded.handle("/record a", sender).get(1, TimeUnit.SECONDS).getClass());
+    }
+  }
+
+  @Test
+  void errorTest() throws Exception {
+    final CountingSender sender = new CountingSender("sender");
+    final Error error = new Error("lane failure");
+
+    this.commandHandler.registerCommand(new InvokesCommand("fail") {
+      @Override
+      public ICommandResult handle(final ICommandSender sender, final String[] args) {
+        throw error;
+      }
+    });
+
+    try (ShardedCommandHandler sharded = new ShardedCommandHandler(this.commandHandler, 1, 16,
+            ShardedCommandHandler.OverflowPolicy.REJECT)) {
+      final ExecutionException exception = assertThrows(ExecutionException.class,
+              () -> sharded.handle("/fail", sender).get(1, TimeUnit.SECONDS));
+
+      assertSame(error, exception.getCause());
+      assertEquals(ICommandResult.ErrorOverloaded.class,
+              sharded.handle("/record a", sender).get(1, TimeUnit.SECONDS).getClass());
+    }
+  }
+
+  @Test
+  void illegalArgumentsTest() {
+    assertThrows(IllegalArgumentException.class, () -> new ShardedCommandHandler(
+            this.commandHandler, 0, 1, ShardedCommandHandler.OverflowPolicy.REJECT));
+    assertThrows(IllegalArgumentException.class, () -> new ShardedCommandHandler(
+            this.commandHandler, 1, 0, ShardedCommandHandler.OverflowPolicy.REJECT));
+  }
+}
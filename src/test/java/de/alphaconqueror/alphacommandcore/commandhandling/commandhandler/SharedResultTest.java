@@ -0,0 +1,75 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.PermissionCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SharedResultTest {
+
+  private CommandHandler commandHandler;
+
+  @BeforeEach
+  void init() {
+    this.commandHandler = new CommandHandler("/").addDefaultInvokes("core");
+    this.commandHandler.registerCommand(new PermissionCommand());
+  }
+
+  @Test
+  void noCommandTest() {
+    final ICommandResult commandResult =
+            this.commandHandler.handle("hello", mock(ICommandSender.class));
+
+    assertTrue(commandResult instanceof ICommandResult.ErrorNoCommand);
+    assertSame(commandResult, this.commandHandler.handle("world", mock(ICommandSender.class)));
+  }
+
+  @Test
+  void noInvokeMatchTest() {
+    final ICommandResult commandResult =
+            this.commandHandler.handle("/other", mock(ICommandSender.class));
+
+    assertTrue(commandResult instanceof ICommandResult.ErrorNoInvokeMatch);
+    assertSame(commandResult, this.commandHandler.handle("/", mock(ICommandSender.class)));
+
+    this.commandHandler.addDefaultInvokes("sub");
+
+    final ICommandResult changedResult =
+            this.commandHandler.handle("/core", mock(ICommandSender.class));
+
+    assertNotSame(commandResult, changedResult);
+    assertArrayEquals(new String[]{"core", "sub"},
+            ((ICommandResult.ErrorNoInvokeMatch) changedResult).getInvokes());
+  }
+
+  @Test
+  void permissionTest() {
+    assertSame(this.commandHandler.handle("/core test", mock(ICommandSender.class)),
+            this.commandHandler.handle("/core test", mock(ICommandSender.class)));
+  }
+
+  @Test
+  void commandNotFoundTest() {
+    final ICommandResult commandResult =
+            this.commandHandler.handle("/core missing x", mock(ICommandSender.class));
+
+    assertArrayEquals(new String[]{"missing", "x"},
+            ((ICommandResult.ErrorCommandNotFound) commandResult).getInvokes());
+  }
+
+  @Test
+  void okayTest() {
+    assertTrue(ICommandResult.OKAY.isExecutable());
+    assertTrue(ICommandResult.OKAY instanceof ICommandResult.Okay);
+  }
+}
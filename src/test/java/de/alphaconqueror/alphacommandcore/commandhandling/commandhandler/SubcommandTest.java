@@ -0,0 +1,161 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandArgs;
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Subcommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.LegalSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.Subcommands;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SubcommandTest {
+
+  private CommandHandler commandHandler;
+  private Subcommands subcommands;
+  private List<ICommand> commands;
+
+  @BeforeEach
+  void init() {
+    this.subcommands = new Subcommands();
+    this.commandHandler = new CommandHandler("/");
+    this.commands = this.commandHandler.registerSubcommands(this.subcommands);
+  }
+
+  @Test
+  void registrationTest() {
+    assertEquals(3, this.commands.size());
+    assertEquals(3, this.commandHandler.getCommands().size());
+    assertThrows(UnsupportedOperationException.class,
+            () -> this.commandHandler.registerSubcommands(new Subcommands()));
+    assertEquals(3, this.commandHandler.getCommands().size());
+    assertThrows(IllegalArgumentException.class,
+            () -> this.commandHandler.registerSubcommands(new Object()));
+    assertThrows(IllegalArgumentException.class,
+            () -> this.commandHandler.registerSubcommands(new InvalidSubcommands()));
+  }
+
+  @Test
+  void dispatchTest() {
+    assertTrue(this.commandHandler.handle("/team list a b", new LegalSender()).isExecutable());
+    assertArrayEquals(new String[]{"a", "b"}, this.subcommands.receivedArgs);
+    assertTrue(this.commandHandler.handle("/team join red", new LegalSender()).isExecutable());
+    assertEquals(CommandArgs.of("red"), this.subcommands.receivedCommandArgs);
+  }
+
+  @Test
+  void annotationTest() {
+    assertEquals(ICommandResult.ErrorPermission.class, this.commandHandler.handle(
+            "/team join red", mock(ICommandSender.class)).getClass());
+    assertEquals(ICommandResult.ErrorIllegalSender.class, this.commandHandler.handle(
+            "/admin", mock(ICommandSender.class)).getClass());
+    assertTrue(this.commandHandler.handle("/admin", new LegalSender()).isExecutable());
+  }
+
+  @Test
+  void nonPublicClassTest() {
+    final PrivateSubcommands privateSubcommands = new PrivateSubcommands();
+
+    this.commandHandler.registerSubcommands(privateSubcommands);
+
+    assertTrue(this.commandHandler.handle("/private x", new LegalSender()).isExecutable());
+    assertArrayEquals(new String[]{"x"}, privateSubcommands.receivedArgs);
+  }
+
+  @Test
+  void childClassLoaderTest() throws Exception {
+    final Class<?> childClass = new ChildFirstClassLoader(Subcommands.class)
+            .loadClass(Subcommands.class.getName());
+    final Object childSubcommands = childClass.getConstructor().newInstance();
+    final CommandHandler commandHandler = new CommandHandler("/");
+
+    assertNotSame(Subcommands.class, childClass);
+    assertEquals(3, commandHandler.registerSubcommands(childSubcommands).size());
+    assertTrue(commandHandler.handle("/team list a", new LegalSender()).isExecutable());
+    assertArrayEquals(new String[]{"a"},
+            (String[]) childClass.getField("receivedArgs").get(childSubcommands));
+    assertTrue(commandHandler.handle("/team join red", new LegalSender()).isExecutable());
+    assertTrue(commandHandler.handle("/admin", new LegalSender()).isExecutable());
+  }
+
+  @Test
+  void unregisterTest() {
+    for (final ICommand command : this.commands) {
+      assertTrue(this.commandHandler.unregisterCommand(command));
+    }
+
+    assertTrue(this.commandHandler.getCommands().isEmpty());
+  }
+
+  private static class PrivateSubcommands {
+
+    private String[] receivedArgs;
+
+    @Subcommand(invokes = "private")
+    public ICommandResult handle(final ICommandSender sender, final String[] args) {
+      this.receivedArgs = args;
+      return ICommandResult.OKAY;
+    }
+  }
+
+  /**
+   * Loads one class itself instead of delegating to its parent, like the class loader of a
+   * plugin.
+   */
+  private static final class ChildFirstClassLoader extends ClassLoader {
+
+    private final Class<?> isolatedClass;
+
+    private ChildFirstClassLoader(final Class<?> isolatedClass) {
+      super(isolatedClass.getClassLoader());
+      this.isolatedClass = isolatedClass;
+    }
+
+    @Override
+    protected Class<?> loadClass(final String name, final boolean resolve)
+            throws ClassNotFoundException {
+      if (!name.equals(this.isolatedClass.getName())) {
+        return super.loadClass(name, resolve);
+      }
+
+      synchronized (getClassLoadingLock(name)) {
+        final Class<?> loadedClass = findLoadedClass(name);
+
+        if (loadedClass != null) {
+          return loadedClass;
+        }
+
+        try (InputStream input = getParent()
+                .getResourceAsStream(name.replace('.', '/') + ".class")) {
+          final byte[] bytes = input.readAllBytes();
+
+          return defineClass(name, bytes, 0, bytes.length);
+        } catch (final IOException e) {
+          throw new ClassNotFoundException(name, e);
+        }
+      }
+    }
+  }
+
+  public static class InvalidSubcommands {
+
+    @Subcommand(invokes = "invalid")
+    public ICommandResult handle(final String[] args) {
+      return ICommandResult.OKAY;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.LegalSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.InvokesCommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.PermissionCommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.TypedCommand;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SuggestTest {
+
+  private CommandHandler commandHandler;
+
+  @BeforeEach
+  void init() {
+    this.commandHandler = new CommandHandler("/");
+    this.commandHandler.registerCommand(new PermissionCommand());
+    this.commandHandler.registerCommand(new TypedCommand());
+    this.commandHandler.registerCommand(new InvokesCommand("team", "list"));
+    this.commandHandler.registerCommand(new InvokesCommand("team", "join"));
+    this.commandHandler.registerCommand(new InvokesCommand("tell"));
+  }
+
+  @Test
+  void invokeTest() {
+    final LegalSender sender = new LegalSender();
+
+    final List<String> all = List.of("team", "tell", "test", "typed");
+
+    assertEquals(all, this.commandHandler.suggest("/t", sender));
+    assertEquals(all, this.commandHandler.suggest("/", sender));
+    assertEquals(List.of("team", "tell"), this.commandHandler.suggest("/t", sender, 2));
+    assertEquals(List.of("test"), this.commandHandler.suggest("/tes", sender));
+    assertEquals(List.of(), this.commandHandler.suggest("/x", sender));
+    assertEquals(List.of(), this.commandHandler.suggest("t", sender));
+  }
+
+  @Test
+  void subcommandTest() {
+    final LegalSender sender = new LegalSender();
+
+    assertEquals(List.of("join", "list"), this.commandHandler.suggest("/team ", sender));
+    assertEquals(List.of("join"), this.commandHandler.suggest("/team j", sender));
+    assertEquals(List.of("team"), this.commandHandler.suggest("/team", sender));
+    assertEquals(List.of(), this.commandHandler.suggest("/team join ", sender));
+    assertEquals(List.of(), this.commandHandler.suggest("/tell x", sender));
+  }
+
+  @Test
+  void permissionTest() {
+    final ICommandSender sender = mock(ICommandSender.class);
+
+    assertEquals(List.of("team", "tell"), this.commandHandler.suggest("/t", sender));
+  }
+
+  @Test
+  void defaultInvokesTest() {
+    final CommandHandler commandHandler = new CommandHandler("!").addDefaultInvokes("admin");
+    final LegalSender sender = new LegalSender();
+
+    commandHandler.registerCommand(new InvokesCommand("ban"));
+
+    assertEquals(List.of("admin"), commandHandler.suggest("!ad", sender));
+    assertEquals(List.of("ban"), commandHandler.suggest("!admin ", sender));
+    assertEquals(List.of("ban"), commandHandler.suggest("!admin b", sender));
+    assertEquals(List.of(), commandHandler.suggest("!other b", sender));
+    assertEquals(List.of(), new CommandHandler("!").addDefaultInvokes("admin")
+            .suggest("!ad", sender));
+  }
+}
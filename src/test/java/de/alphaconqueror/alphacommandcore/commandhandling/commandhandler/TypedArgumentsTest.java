@@ -0,0 +1,131 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandHandler;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ArgumentSchema;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ArgumentType;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ParsedArguments;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders.LegalSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands.TypedCommand;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class TypedArgumentsTest {
+
+  private CommandHandler commandHandler;
+  private TypedCommand typedCommand;
+
+  @BeforeEach
+  void init() {
+    this.typedCommand = new TypedCommand();
+    this.commandHandler = new CommandHandler("/");
+    this.commandHandler.registerCommand(this.typedCommand);
+  }
+
+  @Test
+  void parsedArgumentsTest() {
+    assertTrue(this.commandHandler.handle("/typed 64 -1.5e1 TRUE 20m600s", new LegalSender())
+            .isExecutable());
+
+    final ParsedArguments args = this.typedCommand.receivedArgs;
+
+    assertEquals(64, args.getInt(0));
+    assertEquals(-15.0, args.getDouble("factor"));
+    assertTrue(args.getBoolean("force"));
+    assertEquals(30L, args.getDuration("duration", TimeUnit.MINUTES));
+    assertEquals("20m600s", args.getString(3));
+    assertThrows(IllegalArgumentException.class, () -> args.getLong(0));
+  }
+
+  @Test
+  void optionalArgumentsTest() {
+    assertTrue(this.commandHandler.handle("/typed 1 2", new LegalSender()).isExecutable());
+
+    final ParsedArguments args = this.typedCommand.receivedArgs;
+
+    assertTrue(args.isPresent("factor"));
+    assertFalse(args.isPresent("force"));
+    assertFalse(args.getBoolean("force"));
+    assertNull(args.getString("duration"));
+  }
+
+  @Test
+  void invalidArgumentsTest() {
+    assertInvalid("/typed 65 1", 0, "amount", "65", "int between 1 and 64");
+    assertInvalid("/typed 1x 1", 0, "amount", "1x", "int between 1 and 64");
+    assertInvalid("/typed 1 1e", 1, "factor", "1e", "double");
+    assertInvalid("/typed 1", 1, "factor", null, "double");
+    assertInvalid("/typed 1 1 maybe", 2, "force", "maybe", "boolean");
+    assertInvalid("/typed 1 1 true 2h", 3, "duration", "2h", "duration between PT1M and PT1H");
+    assertInvalid("/typed 1 1 true 5m extra", 4, null, "extra", null);
+    assertNull(this.typedCommand.receivedArgs);
+  }
+
+  @Test
+  void authorizationBeforeParsingTest() {
+    final ICommandSender sender = mock(ICommandSender.class);
+
+    assertEquals(ICommandResult.ErrorPermission.class,
+            this.commandHandler.handle("/typed invalid", sender).getClass());
+  }
+
+  @Test
+  void handleCommandTest() {
+    assertEquals(ICommandResult.ErrorInvalidArgument.class, CommandHandler.handleCommand(
+            this.typedCommand, new String[] {"0", "1"}, new LegalSender()).getClass());
+    assertTrue(CommandHandler.handleCommand(this.typedCommand, new String[] {"1", "1"},
+            new LegalSender()).isExecutable());
+  }
+
+  @Test
+  void syntaxTest() {
+    assertEquals("/typed <int: amount> <double: factor> [boolean: force] [duration: duration]",
+            this.commandHandler.getSyntax(this.typedCommand));
+  }
+
+  @Test
+  void numberBoundsTest() {
+    final ArgumentSchema schema = ArgumentSchema.builder()
+            .required("int", ArgumentType.INTEGER)
+            .required("long", ArgumentType.LONG)
+            .build();
+
+    assertEquals(Long.MIN_VALUE, schema.parse(new String[] {"-2147483648", "-9223372036854775808"})
+            .getLong(1));
+    assertEquals(Long.MAX_VALUE, schema.parse(new String[] {"2147483647", "+9223372036854775807"})
+            .getLong(1));
+    assertFalse(schema.parse(new String[] {"2147483648", "0"}).isValid());
+    assertFalse(schema.parse(new String[] {"0", "9223372036854775808"}).isValid());
+    assertFalse(schema.parse(new String[] {"-", "0"}).isValid());
+    assertArrayEquals(new String[] {"<int: int>", "<long: long>"}, schema.getSyntax());
+    assertThrows(IllegalArgumentException.class, () -> ArgumentSchema.builder()
+            .optional("a", ArgumentType.STRING).required("b", ArgumentType.STRING));
+  }
+
+  private void assertInvalid(final String message, final int index, final String name,
+          final String input, final String expected) {
+    final ICommandResult commandResult = this.commandHandler.handle(message, new LegalSender());
+
+    assertEquals(ICommandResult.ErrorInvalidArgument.class, commandResult.getClass());
+
+    final ICommandResult.ErrorInvalidArgument error =
+            (ICommandResult.ErrorInvalidArgument) commandResult;
+
+    assertEquals(index, error.getIndex());
+    assertEquals(name, error.getName());
+    assertEquals(input, error.getInput());
+    assertEquals(expected, error.getExpected());
+  }
+}
@@ -0,0 +1,36 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.senders;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+
+public class CountingSender implements ICommandSender {
+
+  private final String identifier;
+  private final Object senderKey;
+  public boolean granted = true;
+  public int permissionChecks;
+
+  public CountingSender(final String identifier) {
+    this(identifier, identifier);
+  }
+
+  public CountingSender(final String identifier, final Object senderKey) {
+    this.identifier = identifier;
+    this.senderKey = senderKey;
+  }
+
+  @Override
+  public String getIdentifier() {
+    return this.identifier;
+  }
+
+  @Override
+  public Object getSenderKey() {
+    return this.senderKey;
+  }
+
+  @Override
+  public boolean hasPermission(final String permission) {
+    this.permissionChecks++;
+    return this.granted;
+  }
+}
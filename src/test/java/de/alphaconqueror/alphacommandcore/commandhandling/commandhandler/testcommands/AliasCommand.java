@@ -0,0 +1,16 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands;
+
+public class AliasCommand extends InvokesCommand {
+
+  private final String[][] aliases;
+
+  public AliasCommand(final String[] invokes, final String[]... aliases) {
+    super(invokes);
+    this.aliases = aliases;
+  }
+
+  @Override
+  public String[][] getAliases() {
+    return this.aliases.clone();
+  }
+}
@@ -0,0 +1,47 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Cacheable;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.PermissionRequired;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CachedCommand implements ICommand {
+
+  public final AtomicInteger executions = new AtomicInteger();
+
+  @Override
+  @PermissionRequired(permission = "test.cached")
+  @Cacheable(ttl = 1, unit = TimeUnit.HOURS)
+  public ICommandResult handle(final ICommandSender sender, final String[] args) {
+    this.executions.incrementAndGet();
+    return new ICommandResult.Okay();
+  }
+
+  @Override
+  public String[] getInvokes() {
+    return new String[]{"cached"};
+  }
+
+  @Override
+  public String[] getArguments() {
+    return new String[0];
+  }
+
+  public static class PerSender extends CachedCommand {
+
+    @Override
+    @Cacheable(ttl = 50, unit = TimeUnit.MILLISECONDS, scope = Cacheable.Scope.SENDER)
+    public ICommandResult handle(final ICommandSender sender, final String[] args) {
+      this.executions.incrementAndGet();
+      return new ICommandResult.Okay();
+    }
+
+    @Override
+    public String[] getInvokes() {
+      return new String[]{"mine"};
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Bulkhead;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Timeout;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+public class GuardedCommand implements ICommand {
+
+  public final CountDownLatch entered = new CountDownLatch(1);
+  public final CountDownLatch release = new CountDownLatch(1);
+  public final AtomicInteger interruptions = new AtomicInteger();
+
+  @Override
+  @Bulkhead(maxConcurrent = 1)
+  public ICommandResult handle(final ICommandSender sender, final String[] args) {
+    return await();
+  }
+
+  protected ICommandResult await() {
+    this.entered.countDown();
+
+    try {
+      this.release.await();
+    } catch (final InterruptedException e) {
+      this.interruptions.incrementAndGet();
+    }
+
+    return new ICommandResult.Okay();
+  }
+
+  @Override
+  public String[] getInvokes() {
+    return new String[]{"guarded"};
+  }
+
+  @Override
+  public String[] getArguments() {
+    return new String[0];
+  }
+
+  public static class Timed extends GuardedCommand {
+
+    @Override
+    @Bulkhead(maxConcurrent = 1)
+    @Timeout(value = 50, unit = TimeUnit.MILLISECONDS)
+    public ICommandResult handle(final ICommandSender sender, final String[] args) {
+      return await();
+    }
+
+    @Override
+    public String[] getInvokes() {
+      return new String[]{"timed"};
+    }
+  }
+
+  public static class Stubborn extends GuardedCommand {
+
+    @Override
+    @Timeout(value = 50, unit = TimeUnit.MILLISECONDS)
+    public ICommandResult handle(final ICommandSender sender, final String[] args) {
+      this.entered.countDown();
+
+      // ignores interrupts like a command stuck in a loop or in blocking I/O
+      while (this.release.getCount() > 0) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+      }
+
+      return new ICommandResult.Okay();
+    }
+
+    @Override
+    public String[] getInvokes() {
+      return new String[]{"stubborn"};
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.IndexedCommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.PermissionRequired;
+
+public final class IndexedCommands {
+
+  private IndexedCommands() { }
+
+  @IndexedCommand(invokes = "indexed")
+  public static class Indexed extends InvokesCommand {
+
+    public Indexed() {
+      super("indexed");
+    }
+  }
+
+  @IndexedCommand(invokes = {"indexed", "sub"})
+  public static class IndexedSub extends InvokesCommand {
+
+    public IndexedSub() {
+      super("indexed", "sub");
+    }
+
+    @Override
+    @PermissionRequired(permission = "test.indexed")
+    public ICommandResult handle(final ICommandSender sender, final String[] args) {
+      return super.handle(sender, args);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+
+public class InvokesCommand implements ICommand {
+
+  private final String[] invokes;
+  public String[] receivedArgs;
+
+  public InvokesCommand(final String... invokes) {
+    this.invokes = invokes;
+  }
+
+  @Override
+  public ICommandResult handle(final ICommandSender sender, final String[] args) {
+    this.receivedArgs = args;
+    return new ICommandResult.Okay();
+  }
+
+  @Override
+  public String[] getInvokes() {
+    return this.invokes.clone();
+  }
+
+  @Override
+  public String[] getArguments() {
+    return new String[0];
+  }
+}
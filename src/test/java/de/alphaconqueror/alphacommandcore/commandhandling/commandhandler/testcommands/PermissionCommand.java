@@ -0,0 +1,25 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.PermissionRequired;
+
+public class PermissionCommand implements ICommand {
+
+  @Override
+  @PermissionRequired(permission = "test.permission")
+  public ICommandResult handle(final ICommandSender sender, final String[] args) {
+    return new ICommandResult.Okay();
+  }
+
+  @Override
+  public String[] getInvokes() {
+    return new String[]{"test"};
+  }
+
+  @Override
+  public String[] getArguments() {
+    return new String[0];
+  }
+}
@@ -0,0 +1,26 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.RateLimit;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimitedCommand implements ICommand {
+
+  @Override
+  @RateLimit(permits = 2, period = 1, unit = TimeUnit.HOURS)
+  public ICommandResult handle(final ICommandSender sender, final String[] args) {
+    return new ICommandResult.Okay();
+  }
+
+  @Override
+  public String[] getInvokes() {
+    return new String[]{"limited"};
+  }
+
+  @Override
+  public String[] getArguments() {
+    return new String[0];
+  }
+}
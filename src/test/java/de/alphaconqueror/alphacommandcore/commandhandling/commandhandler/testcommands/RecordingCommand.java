@@ -0,0 +1,33 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class RecordingCommand implements ICommand {
+
+  public final Map<String, List<String>> received = new ConcurrentHashMap<>();
+  public final Map<String, Thread> threads = new ConcurrentHashMap<>();
+
+  @Override
+  public ICommandResult handle(final ICommandSender sender, final String[] args) {
+    this.received.computeIfAbsent(sender.getIdentifier(), identifier -> new ArrayList<>())
+            .add(args[0]);
+    this.threads.put(sender.getIdentifier(), Thread.currentThread());
+    return new ICommandResult.Okay();
+  }
+
+  @Override
+  public String[] getInvokes() {
+    return new String[]{"record"};
+  }
+
+  @Override
+  public String[] getArguments() {
+    return new String[]{"value"};
+  }
+}
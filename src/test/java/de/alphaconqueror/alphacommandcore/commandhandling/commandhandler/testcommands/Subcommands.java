@@ -0,0 +1,37 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandArgs;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.OnlyAllowedSenders;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.PermissionRequired;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.Subcommand;
+
+public class Subcommands {
+
+  public String[] receivedArgs;
+  public CommandArgs receivedCommandArgs;
+
+  @Subcommand(invokes = {"team", "list"})
+  public ICommandResult list(final ICommandSender sender, final String[] args) {
+    this.receivedArgs = args;
+    return ICommandResult.OKAY;
+  }
+
+  @Subcommand(invokes = {"team", "join"}, arguments = "<String: team>")
+  @PermissionRequired(permission = "test.join")
+  public ICommandResult join(final ICommandSender sender, final CommandArgs args) {
+    this.receivedCommandArgs = args;
+    return ICommandResult.OKAY;
+  }
+
+  @Subcommand(invokes = "admin")
+  @OnlyAllowedSenders(identifiers = "testsender")
+  public ICommandResult.Okay admin(final ICommandSender sender, final String[] args) {
+    return ICommandResult.OKAY;
+  }
+
+  public ICommandResult notASubcommand(final ICommandSender sender, final String[] args) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -0,0 +1,39 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.ITypedCommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.PermissionRequired;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ArgumentSchema;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ArgumentType;
+import de.alphaconqueror.alphacommandcore.commandhandling.arguments.ParsedArguments;
+import java.util.concurrent.TimeUnit;
+
+public class TypedCommand implements ITypedCommand {
+
+  private static final ArgumentSchema SCHEMA = ArgumentSchema.builder()
+          .required("amount", ArgumentType.INTEGER).range(1, 64)
+          .required("factor", ArgumentType.DOUBLE)
+          .optional("force", ArgumentType.BOOLEAN)
+          .optional("duration", ArgumentType.DURATION).range(1, 60, TimeUnit.MINUTES)
+          .build();
+
+  public ParsedArguments receivedArgs;
+
+  @Override
+  @PermissionRequired(permission = "test.typed")
+  public ICommandResult handle(final ICommandSender sender, final ParsedArguments args) {
+    this.receivedArgs = args;
+    return new ICommandResult.Okay();
+  }
+
+  @Override
+  public ArgumentSchema getArgumentSchema() {
+    return SCHEMA;
+  }
+
+  @Override
+  public String[] getInvokes() {
+    return new String[]{"typed"};
+  }
+}
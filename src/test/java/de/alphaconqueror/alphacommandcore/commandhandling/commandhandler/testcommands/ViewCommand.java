@@ -0,0 +1,34 @@
+package de.alphaconqueror.alphacommandcore.commandhandling.commandhandler.testcommands;
+
+import de.alphaconqueror.alphacommandcore.commandhandling.CommandArgs;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommand;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandResult;
+import de.alphaconqueror.alphacommandcore.commandhandling.ICommandSender;
+import de.alphaconqueror.alphacommandcore.commandhandling.annotations.PermissionRequired;
+
+public class ViewCommand implements ICommand {
+
+  public CommandArgs receivedArgs;
+
+  @Override
+  public ICommandResult handle(final ICommandSender sender, final String[] args) {
+    return handle(sender, CommandArgs.of(args));
+  }
+
+  @Override
+  @PermissionRequired(permission = "test.view")
+  public ICommandResult handle(final ICommandSender sender, final CommandArgs args) {
+    this.receivedArgs = args;
+    return new ICommandResult.Okay();
+  }
+
+  @Override
+  public String[] getInvokes() {
+    return new String[]{"view"};
+  }
+
+  @Override
+  public String[] getArguments() {
+    return new String[0];
+  }
+}